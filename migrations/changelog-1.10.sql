@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+ALTER TABLE task ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS task_updated_at_task_id_idx ON task (updated_at, task_id);
@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    event_id       BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(32)              NOT NULL,
+    aggregate_id   BIGINT                   NOT NULL,
+    event_type     VARCHAR(32)              NOT NULL,
+    payload        JSONB                    NOT NULL,
+    created_at     TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+--changeset maxzhukoff:2
+ALTER SEQUENCE outbox_event_event_id_seq INCREMENT BY 50;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+CREATE INDEX IF NOT EXISTS task_author_id_task_id_idx ON task (author_id, task_id)
+    WHERE deleted_at IS NULL;
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS task_executor_id_task_id_idx ON task (executor_id, task_id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS task_active_task_id_version_idx ON task (task_id) INCLUDE (version)
+    WHERE deleted_at IS NULL;
+
+--changeset maxzhukoff:2 runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS task_task_id_version_idx;
@@ -0,0 +1,41 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+CREATE TABLE IF NOT EXISTS task_filter_exit
+(
+    exit_id     BIGSERIAL PRIMARY KEY,
+    task_id     BIGINT                   NOT NULL,
+    author_id   BIGINT                   NOT NULL,
+    executor_id BIGINT,
+    status      status                   NOT NULL,
+    priority    priority                 NOT NULL,
+    exited_at   TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS task_filter_exit_exited_at_task_id_idx ON task_filter_exit (exited_at, task_id);
+
+--changeset maxzhukoff:3
+CREATE INDEX IF NOT EXISTS task_filter_exit_author_id_exited_at_idx ON task_filter_exit (author_id, exited_at, task_id);
+
+--changeset maxzhukoff:4
+CREATE INDEX IF NOT EXISTS task_filter_exit_executor_id_exited_at_idx ON task_filter_exit (executor_id, exited_at, task_id)
+    WHERE executor_id IS NOT NULL;
+
+--changeset maxzhukoff:5 splitStatements:false
+CREATE OR REPLACE FUNCTION task_filter_exit_record() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO task_filter_exit (task_id, author_id, executor_id, status, priority, exited_at)
+    VALUES (OLD.task_id, OLD.author_id, OLD.executor_id, OLD.status, OLD.priority, NEW.updated_at);
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER task_filter_exit_record
+    AFTER UPDATE OF author_id, executor_id, status, priority ON task
+    FOR EACH ROW
+    WHEN ((OLD.author_id, OLD.executor_id, OLD.status, OLD.priority)
+        IS DISTINCT FROM (NEW.author_id, NEW.executor_id, NEW.status, NEW.priority))
+EXECUTE FUNCTION task_filter_exit_record();
@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+CREATE INDEX IF NOT EXISTS task_title_task_id_idx ON task (title, task_id);
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS task_status_task_id_idx ON task (status, task_id);
+
+--changeset maxzhukoff:3
+CREATE INDEX IF NOT EXISTS task_priority_task_id_idx ON task (priority, task_id);
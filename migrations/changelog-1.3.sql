@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS task_task_id_version_idx ON task (task_id) INCLUDE (version);
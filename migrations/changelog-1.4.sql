@@ -0,0 +1,4 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+ALTER SEQUENCE task_task_id_seq INCREMENT BY 50;
@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+ALTER TABLE task ADD COLUMN deleted_at TIMESTAMP WITH TIME ZONE;
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS task_deleted_at_idx ON task (deleted_at) WHERE deleted_at IS NOT NULL;
+
+--changeset maxzhukoff:3
+CREATE INDEX IF NOT EXISTS comment_task_id_comment_id_idx ON comment (task_id, comment_id);
@@ -0,0 +1,50 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+ALTER TABLE task ADD COLUMN search_vector tsvector;
+
+--changeset maxzhukoff:2 splitStatements:false
+CREATE OR REPLACE FUNCTION task_search_vector(title TEXT, description TEXT) RETURNS tsvector
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+       setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+$$;
+
+CREATE OR REPLACE FUNCTION task_search_vector_update() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    NEW.search_vector := task_search_vector(NEW.title, NEW.description);
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER task_search_vector_update
+    BEFORE INSERT OR UPDATE OF title, description ON task
+    FOR EACH ROW
+EXECUTE FUNCTION task_search_vector_update();
+
+--changeset maxzhukoff:3 runInTransaction:false splitStatements:false
+DO
+$$
+    DECLARE
+        batch_start BIGINT := 0;
+        last_id     BIGINT;
+    BEGIN
+        SELECT coalesce(max(task_id), 0) INTO last_id FROM task;
+        WHILE batch_start <= last_id
+            LOOP
+                UPDATE task
+                SET search_vector = task_search_vector(title, description)
+                WHERE task_id >= batch_start
+                  AND task_id < batch_start + 10000
+                  AND search_vector IS NULL;
+                COMMIT;
+                batch_start := batch_start + 10000;
+            END LOOP;
+    END
+$$;
+
+--changeset maxzhukoff:4 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS task_search_vector_idx ON task USING GIN (search_vector);
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS comment_text_trgm_idx ON comment USING GIN (text gin_trgm_ops);
@@ -0,0 +1,30 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+CREATE TABLE IF NOT EXISTS user_task_stats
+(
+    user_id    BIGINT REFERENCES users (user_id) NOT NULL,
+    role       VARCHAR(16)                       NOT NULL,
+    status     status                            NOT NULL,
+    priority   priority                          NOT NULL,
+    task_count BIGINT                            NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, role, status, priority)
+);
+
+--changeset maxzhukoff:2
+INSERT INTO user_task_stats (user_id, role, status, priority, task_count)
+SELECT user_id, role, status, priority, count(*)
+FROM (SELECT author_id AS user_id, 'AUTHOR' AS role, status, priority
+      FROM task
+      WHERE deleted_at IS NULL
+      UNION ALL
+      SELECT executor_id, 'EXECUTOR', status, priority
+      FROM task
+      WHERE executor_id IS NOT NULL AND deleted_at IS NULL) t
+GROUP BY user_id, role, status, priority;
+
+--changeset maxzhukoff:3
+CREATE INDEX IF NOT EXISTS task_author_id_idx ON task (author_id) WHERE deleted_at IS NULL;
+
+--changeset maxzhukoff:4
+CREATE INDEX IF NOT EXISTS task_executor_id_idx ON task (executor_id) WHERE deleted_at IS NULL;
@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset maxzhukoff:1
+CREATE INDEX IF NOT EXISTS task_author_id_status_task_id_idx ON task (author_id, status, task_id)
+    WHERE deleted_at IS NULL;
+
+--changeset maxzhukoff:2
+CREATE INDEX IF NOT EXISTS task_executor_id_status_task_id_idx ON task (executor_id, status, task_id)
+    WHERE deleted_at IS NULL;
+
+--changeset maxzhukoff:3
+DROP INDEX IF EXISTS task_author_id_idx;
+DROP INDEX IF EXISTS task_executor_id_idx;
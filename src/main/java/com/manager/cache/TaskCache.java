@@ -0,0 +1,90 @@
+package com.manager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.manager.config.TaskCacheProperties;
+import com.manager.datasource.ReplicaRoutingDataSource;
+import com.manager.model.response.TaskResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+@Component
+public class TaskCache {
+    private final Cache<Long, TaskResponse> cache;
+    private final Map<Long, Integer> pendingWrites = new ConcurrentHashMap<>();
+
+    public TaskCache(TaskCacheProperties properties, MeterRegistry meterRegistry) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks");
+    }
+
+    /**
+     * A task loaded from a read replica is returned but not cached, it may predate a write
+     * whose eviction has already happened and would then be served for the whole ttl.
+     */
+    public TaskResponse get(Long taskId, Function<Long, TaskResponse> loader) {
+        if (pendingWrites.containsKey(taskId)) {
+            return loader.apply(taskId);
+        }
+        AtomicReference<TaskResponse> replicaRead = new AtomicReference<>();
+        TaskResponse cached = cache.get(taskId, id -> {
+            TaskResponse loaded = loader.apply(id);
+            if (ReplicaRoutingDataSource.isCurrentTransactionOnReplica()) {
+                replicaRead.set(loaded);
+                return null;
+            }
+            return loaded;
+        });
+        return cached != null ? cached : replicaRead.get();
+    }
+
+    public Optional<TaskResponse> getIfPresent(Long taskId) {
+        if (pendingWrites.containsKey(taskId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(taskId));
+    }
+
+    /**
+     * Drops a task changed on another node, called once its change has been committed.
+     */
+    public void invalidate(Long taskId) {
+        cache.invalidate(taskId);
+    }
+
+    /**
+     * Drops every task, for when changes made on other nodes may have been missed.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Must be called inside the transaction that changes the task. Until that transaction completes
+     * the task is read from the database, so a stale entry can't be cached or served after commit.
+     */
+    public void evict(Long taskId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(taskId);
+                pendingWrites.computeIfPresent(taskId, (id, count) -> count > 1 ? count - 1 : null);
+            }
+        });
+        pendingWrites.merge(taskId, 1, Integer::sum);
+        cache.invalidate(taskId);
+    }
+}
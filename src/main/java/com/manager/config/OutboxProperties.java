@@ -0,0 +1,34 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties("outbox")
+@Component
+@Data
+@Validated
+public class OutboxProperties {
+    @Positive
+    private int batchSize;
+    @NotNull
+    private Duration relayInterval;
+    @NotNull
+    private SinkType sink;
+    private Path file;
+    private URI url;
+    @NotNull
+    private Duration timeout;
+
+    public enum SinkType {
+        FILE,
+        HTTP
+    }
+}
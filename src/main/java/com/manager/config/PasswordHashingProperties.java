@@ -0,0 +1,24 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties("password-hashing")
+@Component
+@Data
+@Validated
+public class PasswordHashingProperties {
+    @Positive
+    private int threads;
+    @PositiveOrZero
+    private int queueCapacity;
+    @Min(4)
+    @Max(31)
+    private int strength;
+}
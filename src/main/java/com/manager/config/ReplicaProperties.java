@@ -0,0 +1,31 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties("replicas")
+@Component
+@Data
+@Validated
+public class ReplicaProperties {
+    private boolean enabled;
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+    @Positive
+    private int maximumPoolSize;
+    @NotNull
+    private Duration stickiness;
+    @NotNull
+    private Duration maxLag;
+    @NotNull
+    private Duration lagCheckInterval;
+}
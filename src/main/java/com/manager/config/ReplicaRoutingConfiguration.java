@@ -0,0 +1,87 @@
+package com.manager.config;
+
+import com.manager.datasource.ReadYourWritesTracker;
+import com.manager.datasource.ReplicaDataSources;
+import com.manager.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "replicas", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReplicaRoutingConfiguration {
+    private final ReplicaProperties replicaProperties;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceProperties dataSourceProperties,
+                                                 HikariDataSource primaryDataSource) {
+        List<String> urls = replicaProperties.getUrls();
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("replicas.enabled requires at least one url in replicas.urls");
+        }
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setUsername(replicaProperties.getUsername() == null
+                    ? dataSourceProperties.determineUsername()
+                    : replicaProperties.getUsername());
+            replica.setPassword(replicaProperties.getPassword() == null
+                    ? dataSourceProperties.determinePassword()
+                    : replicaProperties.getPassword());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaDataSources(primaryDataSource, replicas, replicaProperties.getMaxLag(),
+                replicaProperties.getLagCheckInterval());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaDataSources replicaDataSources) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSources,
+                new ReadYourWritesTracker(replicaProperties.getStickiness()));
+    }
+
+    /**
+     * Spring holds a connection for the whole open-in-view session by default, which would let a request
+     * that started on a replica run its writes there. Releasing it after every transaction routes each one anew.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionPerTransactionCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,13 @@
+package com.manager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Jobs share spring.task.scheduling.pool, which has a thread per job so that a long purge
+ * or stats reconciliation run doesn't hold up the outbox relay.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -1,6 +1,8 @@
 package com.manager.config;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -21,4 +23,10 @@ public class SecurityProperties {
     private String secret;
     @DurationUnit(ChronoUnit.DAYS)
     Duration tokenTtl;
+    @Positive
+    private long tokenCacheSize;
+    @NotNull
+    private Duration tokenCacheTtl;
+    @NotNull
+    private Duration rejectedTokenCacheTtl;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("task-cache")
+@Component
+@Data
+@Validated
+public class TaskCacheProperties {
+    @Positive
+    private long maximumSize;
+    @NotNull
+    private Duration ttl;
+}
@@ -0,0 +1,29 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("task-events")
+@Component
+@Data
+@Validated
+public class TaskEventProperties {
+    @NotNull
+    private Duration emitterTimeout;
+    @NotNull
+    private Duration heartbeatInterval;
+    @NotNull
+    private Duration pollTimeout;
+    @NotNull
+    private Duration reconnectDelay;
+    @Positive
+    private int senderThreads;
+    @Positive
+    private int subscriberQueueCapacity;
+}
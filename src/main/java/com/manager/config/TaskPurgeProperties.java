@@ -0,0 +1,23 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("task-purge")
+@Component
+@Data
+@Validated
+public class TaskPurgeProperties {
+    @Positive
+    private int batchSize;
+    @NotNull
+    private Duration interval;
+    @NotNull
+    private Duration pause;
+}
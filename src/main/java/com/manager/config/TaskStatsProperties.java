@@ -0,0 +1,21 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("task-stats")
+@Component
+@Data
+@Validated
+public class TaskStatsProperties {
+    @Positive
+    private int reconciliationBatchSize;
+    @NotNull
+    private Duration reconciliationInterval;
+}
@@ -0,0 +1,20 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("task-sync")
+@Component
+@Data
+@Validated
+public class TaskSyncProperties {
+    @NotNull
+    private Duration tombstoneRetention;
+    @NotNull
+    private Duration overlap;
+}
@@ -0,0 +1,63 @@
+package com.manager.config;
+
+import com.manager.util.RequestAdmissionFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class VirtualThreadConfiguration {
+    private final VirtualThreadProperties virtualThreadProperties;
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestAdmissionFilter> requestAdmissionFilter() {
+        FilterRegistrationBean<RequestAdmissionFilter> registration = new FilterRegistrationBean<>(
+                new RequestAdmissionFilter(
+                        maxConcurrentRequests(),
+                        virtualThreadProperties.getAdmissionTimeout()
+                ));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private int maxConcurrentRequests() {
+        Integer maxConcurrentRequests = virtualThreadProperties.getMaxConcurrentRequests();
+        if (maxConcurrentRequests == null) {
+            return connectionPoolSize;
+        }
+        if (maxConcurrentRequests > connectionPoolSize) {
+            throw new IllegalStateException("virtual-threads.max-concurrent-requests (" + maxConcurrentRequests
+                                            + ") may not exceed spring.datasource.hikari.maximum-pool-size ("
+                                            + connectionPoolSize + ")");
+        }
+        return maxConcurrentRequests;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("virtual-threads.enabled requires Java 21 or newer", e);
+        }
+    }
+}
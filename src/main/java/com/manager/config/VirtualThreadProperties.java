@@ -0,0 +1,26 @@
+package com.manager.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("virtual-threads")
+@Component
+@Data
+@Validated
+public class VirtualThreadProperties {
+    private boolean enabled;
+    /**
+     * Requests let in at once, defaults to the size of the primary connection pool and may not exceed it:
+     * virtual threads are cheap, so this is the only bound on requests queueing for a connection.
+     */
+    @Positive
+    private Integer maxConcurrentRequests;
+    @NotNull
+    private Duration admissionTimeout;
+}
@@ -2,10 +2,13 @@ package com.manager.controller;
 
 import com.manager.model.AuthToken;
 import com.manager.model.CommentFilter;
+import com.manager.model.CommentSearchFilter;
 import com.manager.model.request.CommentCreateRequest;
 import com.manager.model.response.ApiErrorResponse;
 import com.manager.model.response.CommentResponse;
+import com.manager.model.response.CursorResponse;
 import com.manager.model.response.PageResponse;
+import com.manager.model.response.SliceResponse;
 import com.manager.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,7 +35,7 @@ import static org.springframework.http.HttpStatus.CREATED;
         @ApiResponse(responseCode = "404", description = "Task not found")
 })
 @RestController
-@RequestMapping("/api/v1/tasks/{taskId}/comments")
+@RequestMapping("/api/v1")
 @RequiredArgsConstructor
 public class CommentController {
     private final CommentService commentService;
@@ -47,13 +50,13 @@ public class CommentController {
             }
     )
     @ResponseStatus(CREATED)
-    @PostMapping
+    @PostMapping("/tasks/{taskId}/comments")
     public CommentResponse addComment(
             @PathVariable Long taskId,
             @RequestBody @Valid CommentCreateRequest commentRequest,
             @AuthenticationPrincipal AuthToken user
     ) {
-        return commentService.addComment(taskId, commentRequest, user.userId());
+        return commentService.addComment(taskId, commentRequest, user);
     }
 
     @Operation(
@@ -66,7 +69,7 @@ public class CommentController {
                     )
             }
     )
-    @GetMapping
+    @GetMapping("/tasks/{taskId}/comments")
     public PageResponse<CommentResponse> getAllTaskComments(
             @PathVariable Long taskId,
             @Parameter(description = "Сan pass null") CommentFilter commentFilter,
@@ -77,4 +80,73 @@ public class CommentController {
     ) {
         return PageResponse.of(commentService.getAllTaskComments(taskId, commentFilter, pageable));
     }
+
+    @Operation(
+            summary = "Get task comments by filter without total count",
+            description = "Returns only whether the next page exists, so no count query is executed",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Comments returned", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SliceResponse.class))
+                    )
+            }
+    )
+    @GetMapping(value = "/tasks/{taskId}/comments", params = "withTotal=false")
+    public SliceResponse<CommentResponse> getAllTaskCommentsSlice(
+            @PathVariable Long taskId,
+            @Parameter(description = "Сan pass null") CommentFilter commentFilter,
+            @Parameter(example = """
+                    {"page": 0,
+                     "size": 10}"""
+            ) Pageable pageable
+    ) {
+        return SliceResponse.of(commentService.getAllTaskCommentsSlice(taskId, commentFilter, pageable));
+    }
+
+    @Operation(
+            summary = "Search task comments by text",
+            description = "Finds comments containing q ignoring case, or similar to q when similar=true. "
+                          + "Pass an empty cursor to get the first page and the returned nextCursor to get the next one",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Comments returned", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/tasks/{taskId}/comments/search")
+    public CursorResponse<CommentResponse> searchTaskComments(
+            @PathVariable Long taskId,
+            @Valid CommentSearchFilter searchFilter,
+            @Parameter(description = "Cursor of the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(example = """
+                    {"size": 10}"""
+            ) Pageable pageable
+    ) {
+        return commentService.searchComments(taskId, searchFilter, after, pageable.getPageSize());
+    }
+
+    @Operation(
+            summary = "Search comments of all tasks by text",
+            description = "Finds comments containing q ignoring case, or similar to q when similar=true. "
+                          + "Pass an empty cursor to get the first page and the returned nextCursor to get the next one",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Comments returned", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/comments/search")
+    public CursorResponse<CommentResponse> searchComments(
+            @Valid CommentSearchFilter searchFilter,
+            @Parameter(description = "Cursor of the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(example = """
+                    {"size": 10}"""
+            ) Pageable pageable
+    ) {
+        return commentService.searchComments(null, searchFilter, after, pageable.getPageSize());
+    }
 }
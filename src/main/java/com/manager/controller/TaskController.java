@@ -1,16 +1,28 @@
 package com.manager.controller;
 
+import com.manager.event.TaskEventBroadcaster;
 import com.manager.model.AuthToken;
+import com.manager.model.ExportFormat;
 import com.manager.model.TaskFilter;
+import com.manager.model.TaskInboxFilter;
+import com.manager.model.request.TaskBatchCreateRequest;
+import com.manager.model.request.TaskBulkStatusEditRequest;
 import com.manager.model.request.TaskCreateEditRequest;
 import com.manager.model.request.TaskExecutorEditRequest;
 import com.manager.model.request.TaskStatusEditRequest;
 import com.manager.model.response.ApiErrorResponse;
+import com.manager.model.response.CursorResponse;
 import com.manager.model.response.PageResponse;
+import com.manager.model.response.TaskBulkStatusEditResponse;
+import com.manager.model.response.TaskImportResponse;
+import com.manager.model.response.SliceResponse;
 import com.manager.model.response.TaskResponse;
+import com.manager.model.response.TaskSyncResponse;
+import com.manager.service.TaskImportService;
 import com.manager.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,10 +31,23 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 
 @SecurityRequirement(name = "Bearer Authentication")
 @ApiResponses(value = {
@@ -37,6 +62,8 @@ import static org.springframework.http.HttpStatus.CREATED;
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
 
     @Operation(
             summary = "Create new task",
@@ -51,7 +78,41 @@ public class TaskController {
     @PostMapping
     public TaskResponse createTask(@RequestBody @Valid TaskCreateEditRequest taskRequest,
                                    @AuthenticationPrincipal AuthToken user) {
-        return taskService.createTask(taskRequest, user.userId());
+        return taskService.createTask(taskRequest, user);
+    }
+
+    @Operation(
+            summary = "Create tasks in batch",
+            description = "All tasks are created in one transaction with the current user as the author",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Tasks created", content =
+                    @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class)))
+                    )
+            }
+    )
+    @ResponseStatus(CREATED)
+    @PostMapping("/batch")
+    public List<TaskResponse> createTasks(@RequestBody @Valid TaskBatchCreateRequest batchRequest,
+                                          @AuthenticationPrincipal AuthToken user) {
+        return taskService.createTasks(batchRequest.tasks(), user);
+    }
+
+    @Operation(
+            summary = "Import tasks from NDJSON",
+            description = "Every line is a task in the create request format, the current user becomes the author. "
+                          + "Valid lines are loaded in chunks, invalid lines are skipped and reported",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks imported", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskImportResponse.class))
+                    )
+            }
+    )
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public TaskImportResponse importTasks(InputStream body, @AuthenticationPrincipal AuthToken user)
+            throws IOException {
+        return taskImportService.importTasks(body, user);
     }
 
     @Operation(
@@ -96,6 +157,27 @@ public class TaskController {
         return taskService.editTaskStatus(statusEditRequest, taskId, user.userId());
     }
 
+    @Operation(
+            summary = "Edit status of many tasks",
+            description = "Pass either task ids or a filter. Only tasks where the current user is the author "
+                          + "or executor are updated, the others are reported as forbidden or not found. "
+                          + "A filter updates at most 1000 tasks not yet in the target status per call, "
+                          + "repeat the call while hasMore is true",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Task statuses edited", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskBulkStatusEditResponse.class))
+                    )
+            }
+    )
+    @PatchMapping("/status")
+    public TaskBulkStatusEditResponse editTasksStatus(
+            @RequestBody @Valid TaskBulkStatusEditRequest statusEditRequest,
+            @AuthenticationPrincipal AuthToken user
+    ) {
+        return taskService.editTasksStatus(statusEditRequest, user.userId());
+    }
+
     @Operation(
             summary = "Edit task executor",
             description = "Only the author can edit the task executor",
@@ -131,6 +213,102 @@ public class TaskController {
         taskService.removeTask(taskId, user.userId());
     }
 
+    @Operation(
+            summary = "Export all tasks by filter",
+            description = "Streams every matching task ordered by id as NDJSON or CSV",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks exported", content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    })
+            }
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "You may not use all fields") @Valid TaskFilter taskFilter,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        StreamingResponseBody body = out -> taskService.exportTasks(taskFilter, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Subscribe to task changes",
+            description = "Server-sent events named created, updated and deleted for tasks matching the filter. "
+                          + "The q filter is not supported",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream opened", content =
+                    @Content(mediaType = "text/event-stream")
+                    )
+            }
+    )
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToTaskEvents(
+            @Parameter(description = "You may not use all fields") @Valid TaskFilter taskFilter
+    ) {
+        return taskEventBroadcaster.subscribe(taskFilter);
+    }
+
+    @Operation(
+            summary = "Get tasks created by or assigned to current user",
+            description = "Newest tasks first. Pass an empty cursor to get the first page "
+                          + "and the returned nextCursor to get the next one",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks returned", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class))
+                    )
+            }
+    )
+    @GetMapping("/inbox")
+    public CursorResponse<TaskResponse> getInbox(
+            @Valid TaskInboxFilter inboxFilter,
+            @Parameter(description = "Cursor of the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(example = """
+                    {"size": 10}"""
+            ) Pageable pageable,
+            @AuthenticationPrincipal AuthToken user
+    ) {
+        return taskService.getInbox(user.userId(), inboxFilter, after, pageable.getPageSize());
+    }
+
+    @Operation(
+            summary = "Get tasks changed since the last sync",
+            description = "Returns tasks matching the filter that changed at or after updatedSince, tasks deleted "
+                          + "or no longer matching the filter since then are returned as ids in deleted. Follow "
+                          + "nextCursor until it is empty, then pass syncedAt of the first page as updatedSince of "
+                          + "the next sync. Without updatedSince all matching tasks are returned. A search query "
+                          + "is only supported without updatedSince",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Changes returned", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TaskSyncResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Search query used with updatedSince",
+                            content = @Content()),
+                    @ApiResponse(responseCode = "410", description = "Deletions since updatedSince are no longer kept, "
+                                                                     + "a full sync is required", content = @Content())
+            }
+    )
+    @GetMapping("/sync")
+    public TaskSyncResponse syncTasks(
+            @Valid TaskFilter taskFilter,
+            @Parameter(description = "Cursor of the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(example = """
+                    {"size": 100}"""
+            ) Pageable pageable
+    ) {
+        return taskService.syncTasks(taskFilter, after, pageable.getPageSize());
+    }
+
     @Operation(
             summary = "Get task",
             responses = {
@@ -138,12 +316,23 @@ public class TaskController {
                     @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TaskResponse.class))
                     ),
+                    @ApiResponse(responseCode = "304", description = "Task is not modified", content = @Content()),
                     @ApiResponse(responseCode = "404", description = "Task with this id is not found", content = @Content())
             }
     )
     @GetMapping("/{taskId}")
-    public TaskResponse findTaskById(@PathVariable Long taskId) {
-        return taskService.findTaskById(taskId);
+    public ResponseEntity<TaskResponse> findTaskById(@PathVariable Long taskId, @RequestHeader HttpHeaders headers) {
+        List<String> ifNoneMatch = headers.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String eTag = taskETag(taskId, taskService.findTaskVersion(taskId));
+            if (ifNoneMatch.contains(eTag) || ifNoneMatch.contains("*")) {
+                return ResponseEntity.status(NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        TaskResponse task = taskService.findTaskById(taskId);
+        return ResponseEntity.ok()
+                .eTag(taskETag(task.taskId(), task.version()))
+                .body(task);
     }
 
     @Operation(
@@ -153,17 +342,76 @@ public class TaskController {
                     @ApiResponse(responseCode = "200", description = "Tasks returned", content =
                     @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PageResponse.class))
-                    )
+                    ),
+                    @ApiResponse(responseCode = "304", description = "Tasks are not modified", content = @Content())
             }
     )
     @GetMapping
-    public PageResponse<TaskResponse> getAllTasks(
+    public ResponseEntity<PageResponse<TaskResponse>> getAllTasks(
             @Parameter(description = "You may not use all fields") @Valid TaskFilter taskFilter,
             @Parameter(example = """
                     {"page": 0,
                      "size": 10}"""
             ) Pageable pageable
     ) {
-        return PageResponse.of(taskService.getAllTasks(taskFilter, pageable));
+        PageResponse<TaskResponse> page = PageResponse.of(taskService.getAllTasks(taskFilter, pageable));
+        return ResponseEntity.ok()
+                .eTag(listETag(page.content(), page.metadata()))
+                .body(page);
+    }
+
+    @Operation(
+            summary = "Get tasks by filter without total count",
+            description = "Returns only whether the next page exists, so no count query is executed",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks returned", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SliceResponse.class))
+                    )
+            }
+    )
+    @GetMapping(params = {"withTotal=false", "!after"})
+    public SliceResponse<TaskResponse> getAllTasksSlice(
+            @Parameter(description = "You may not use all fields") @Valid TaskFilter taskFilter,
+            @Parameter(example = """
+                    {"page": 0,
+                     "size": 10}"""
+            ) Pageable pageable
+    ) {
+        return SliceResponse.of(taskService.getAllTasksSlice(taskFilter, pageable));
+    }
+
+    @Operation(
+            summary = "Get tasks by filter using cursor pagination",
+            description = "Pass an empty cursor to get the first page and the returned nextCursor to get the next one. "
+                          + "Tasks can be sorted by one of: taskId, title, status, priority",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks returned", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorResponse.class))
+                    )
+            }
+    )
+    @GetMapping(params = "after")
+    public CursorResponse<TaskResponse> getAllTasksAfter(
+            @Parameter(description = "You may not use all fields") @Valid TaskFilter taskFilter,
+            @Parameter(description = "Cursor of the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(example = """
+                    {"size": 10,
+                     "sort": ["taskId,asc"]}"""
+            ) Pageable pageable
+    ) {
+        return taskService.getAllTasks(taskFilter, after, pageable);
+    }
+
+    private String taskETag(Long taskId, Long version) {
+        return "\"" + taskId + "-" + version + "\"";
+    }
+
+    private String listETag(List<TaskResponse> tasks, Object metadata) {
+        StringBuilder builder = new StringBuilder(metadata.toString());
+        tasks.forEach(task -> builder.append(';').append(task.taskId()).append('-').append(task.version()));
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 }
@@ -4,6 +4,8 @@ import com.manager.model.AuthToken;
 import com.manager.model.request.AuthRequest;
 import com.manager.model.response.ApiErrorResponse;
 import com.manager.model.response.UserResponse;
+import com.manager.model.response.UserTaskStatsResponse;
+import com.manager.service.TaskStatsService;
 import com.manager.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +24,7 @@ import static org.springframework.http.HttpStatus.CREATED;
 @RequestMapping("/api/v1/users")
 public class UserController {
     private final UserService userService;
+    private final TaskStatsService taskStatsService;
 
     @Operation(
             summary = "Get current authorized user",
@@ -41,6 +44,25 @@ public class UserController {
         return new UserResponse(user.userId(), user.email());
     }
 
+    @Operation(
+            summary = "Get task counters of current authorized user",
+            description = "Counts of not deleted tasks the user created and is assigned to, by status and priority",
+            security = @SecurityRequirement(name = "Bearer Authentication"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "OK", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserTaskStatsResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content =
+                    @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ApiErrorResponse.class))
+                    )
+            })
+    @GetMapping("/me/stats")
+    public UserTaskStatsResponse getCurrentUserStats(@AuthenticationPrincipal AuthToken user) {
+        return taskStatsService.getUserStats(user.userId());
+    }
+
     @Operation(
             summary = "Create new user",
             responses = {
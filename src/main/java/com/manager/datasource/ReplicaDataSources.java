@@ -0,0 +1,131 @@
+package com.manager.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ReplicaDataSources implements AutoCloseable {
+    private static final String PRIMARY_LSN_QUERY = "SELECT pg_current_wal_lsn()::text";
+    /**
+     * Null when the server is not in recovery, zero when it has replayed everything the primary had written
+     * before the check, otherwise the time since the last transaction it replayed. A replica that lost its
+     * connection stops replaying, so its lag grows as soon as the primary writes. Only functions open to any
+     * role are used, the replica pools connect with the application's credentials.
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN NULL
+                       WHEN pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn) THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())::float8, 'Infinity')
+                   END""";
+
+    private final DataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final Duration maxLag;
+    private final Duration staleAfter;
+    private final ScheduledExecutorService lagChecker;
+    private final Set<String> reportedUnhealthy = new HashSet<>();
+    private volatile LagCheck lastCheck = new LagCheck(List.of(), Instant.MIN);
+
+    public ReplicaDataSources(DataSource primary, Map<String, HikariDataSource> replicas,
+                              Duration maxLag, Duration lagCheckInterval) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.staleAfter = lagCheckInterval.multipliedBy(2).plus(queryTimeout().multipliedBy(replicas.size() + 1));
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("replica-lag-check-"));
+        long intervalMillis = lagCheckInterval.toMillis();
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, ? extends DataSource> targets() {
+        return replicas;
+    }
+
+    /**
+     * Replicas that were in recovery and at most max-lag behind the primary at the last lag check.
+     * Empty until the first check completes and when the last check is too old to trust,
+     * so reads go to the primary.
+     */
+    public List<String> healthy() {
+        LagCheck check = lastCheck;
+        return check.checkedAt().isBefore(Instant.now().minus(staleAfter)) ? List.of() : check.healthy();
+    }
+
+    void checkLag() {
+        Instant checkedAt = Instant.now();
+        String primaryLsn;
+        try {
+            primaryLsn = jdbcTemplate(primary).queryForObject(PRIMARY_LSN_QUERY, String.class);
+        } catch (RuntimeException e) {
+            log.warn("Can't read the primary WAL position, routing reads to the primary", e);
+            lastCheck = new LagCheck(List.of(), checkedAt);
+            return;
+        }
+        List<String> caughtUp = new ArrayList<>(replicas.size());
+        replicas.forEach((key, replica) -> {
+            try {
+                Double lagSeconds = jdbcTemplate(replica).queryForObject(LAG_QUERY, Double.class, primaryLsn);
+                if (lagSeconds == null) {
+                    reportUnhealthy(key, "Replica {} is not in recovery, routing its reads to the primary", null);
+                    return;
+                }
+                Duration lag = Duration.ofMillis(Math.round(lagSeconds * 1000));
+                if (lag.compareTo(maxLag) <= 0) {
+                    caughtUp.add(key);
+                    reportedUnhealthy.remove(key);
+                } else {
+                    reportUnhealthy(key, "Replica {} is " + lag + " behind the primary, routing its reads to the primary",
+                            null);
+                }
+            } catch (DataAccessException e) {
+                reportUnhealthy(key, "Replica {} is unavailable, routing its reads to the primary", e);
+            }
+        });
+        lastCheck = new LagCheck(List.copyOf(caughtUp), checkedAt);
+    }
+
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    /**
+     * Warns once each time a replica stops qualifying, including a replica that never qualified since startup.
+     */
+    private void reportUnhealthy(String key, String message, Exception e) {
+        if (reportedUnhealthy.add(key)) {
+            log.warn(message, key, e);
+        }
+    }
+
+    private JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout((int) queryTimeout().toSeconds());
+        return jdbcTemplate;
+    }
+
+    private Duration queryTimeout() {
+        return Duration.ofSeconds(Math.max(1, maxLag.toSeconds()));
+    }
+
+    private record LagCheck(List<String> healthy, Instant checkedAt) {
+    }
+}
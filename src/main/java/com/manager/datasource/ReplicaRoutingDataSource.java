@@ -0,0 +1,87 @@
+package com.manager.datasource;
+
+import com.manager.model.AuthToken;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a caught-up replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of a transaction is only known
+ * after the transaction manager has asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    private static final Object REPLICA_READ = ReplicaRoutingDataSource.class.getName() + ".REPLICA_READ";
+
+    private final ReplicaDataSources replicas;
+    private final ReadYourWritesTracker writeTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaDataSources replicas,
+                                    ReadYourWritesTracker writeTracker) {
+        this.replicas = replicas;
+        this.writeTracker = writeTracker;
+        Map<Object, Object> targets = new HashMap<>(replicas.targets());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) {
+                writeTracker.recordWrite(userId);
+            }
+            return PRIMARY;
+        }
+        if (userId != null && writeTracker.hasRecentWrite(userId)) {
+            return PRIMARY;
+        }
+        List<String> healthy = replicas.healthy();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return markReplicaRead(healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())));
+    }
+
+    /**
+     * Whether the current transaction reads from a replica, so what it reads may lag behind the primary.
+     */
+    public static boolean isCurrentTransactionOnReplica() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    private String markReplicaRead(String replica) {
+        if (!TransactionSynchronizationManager.hasResource(REPLICA_READ)) {
+            TransactionSynchronizationManager.bindResource(REPLICA_READ, replica);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+                }
+            });
+        }
+        return replica;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthToken token
+                ? token.userId()
+                : null;
+    }
+}
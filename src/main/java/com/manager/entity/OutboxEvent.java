@@ -0,0 +1,46 @@
+package com.manager.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEvent {
+    public static final String TASK_AGGREGATE = "task";
+    public static final String COMMENT_AGGREGATE = "comment";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_id_generator")
+    @SequenceGenerator(name = "outbox_event_id_generator", sequenceName = "outbox_event_event_id_seq",
+            allocationSize = 50)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "aggregate_type")
+    private String aggregateType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "event_type")
+    private String eventType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", columnDefinition = "jsonb")
+    private JsonNode payload;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Instant createdAt;
+}
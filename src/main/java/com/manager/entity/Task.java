@@ -8,6 +8,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Type;
 
+import java.time.Instant;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -15,8 +17,12 @@ import org.hibernate.annotations.Type;
 @Entity
 @Table(name = "task")
 public class Task {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_generator")
+    @SequenceGenerator(name = "task_id_generator", sequenceName = "task_task_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "task_id")
     private Long taskId;
 
@@ -45,4 +51,17 @@ public class Task {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "executor_id")
     private User executor;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Column(name = "search_vector", insertable = false, updatable = false)
+    private String searchVector;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
 }
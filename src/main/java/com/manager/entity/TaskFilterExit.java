@@ -0,0 +1,47 @@
+package com.manager.entity;
+
+import io.hypersistence.utils.hibernate.type.basic.PostgreSQLEnumType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Type;
+
+import java.time.Instant;
+
+/**
+ * The fields a task had before an update changed its author, executor, status or priority.
+ * Rows are written by a trigger on task, so a sync can tell a client which tasks left its filter.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "task_filter_exit")
+public class TaskFilterExit {
+    @Id
+    @Column(name = "exit_id")
+    private Long exitId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "executor_id")
+    private Long executorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", columnDefinition = "status")
+    @Type(PostgreSQLEnumType.class)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", columnDefinition = "priority")
+    @Type(PostgreSQLEnumType.class)
+    private Priority priority;
+
+    @Column(name = "exited_at")
+    private Instant exitedAt;
+}
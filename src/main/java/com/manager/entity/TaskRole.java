@@ -0,0 +1,6 @@
+package com.manager.entity;
+
+public enum TaskRole {
+    AUTHOR,
+    EXECUTOR
+}
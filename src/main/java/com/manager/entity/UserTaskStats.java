@@ -0,0 +1,42 @@
+package com.manager.entity;
+
+import io.hypersistence.utils.hibernate.type.basic.PostgreSQLEnumType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "user_task_stats")
+@IdClass(UserTaskStatsId.class)
+public class UserTaskStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role")
+    private TaskRole role;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", columnDefinition = "status")
+    @Type(PostgreSQLEnumType.class)
+    private Status status;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", columnDefinition = "priority")
+    @Type(PostgreSQLEnumType.class)
+    private Priority priority;
+
+    @Column(name = "task_count")
+    private long taskCount;
+}
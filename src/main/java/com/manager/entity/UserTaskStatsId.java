@@ -0,0 +1,17 @@
+package com.manager.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserTaskStatsId implements Serializable {
+    private Long userId;
+    private TaskRole role;
+    private Status status;
+    private Priority priority;
+}
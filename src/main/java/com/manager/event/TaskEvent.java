@@ -0,0 +1,35 @@
+package com.manager.event;
+
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import com.manager.model.TaskFilter;
+import com.manager.model.response.TaskResponse;
+
+public record TaskEvent(
+        TaskEventType type,
+        Long taskId,
+        Status status,
+        Priority priority,
+        Long authorId,
+        Long executorId,
+        Long version
+) {
+    public static TaskEvent of(TaskEventType type, TaskResponse task) {
+        return new TaskEvent(
+                type,
+                task.taskId(),
+                task.status(),
+                task.priority(),
+                task.author().userId(),
+                task.executor() == null ? null : task.executor().userId(),
+                task.version()
+        );
+    }
+
+    public boolean matches(TaskFilter filter) {
+        return (filter.authorId() == null || filter.authorId().equals(authorId))
+               && (filter.executorId() == null || filter.executorId().equals(executorId))
+               && (filter.status() == null || filter.status().equals(status.name()))
+               && (filter.priority() == null || filter.priority().equals(priority.name()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.manager.event;
+
+import com.manager.config.TaskEventProperties;
+import com.manager.model.TaskFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Fans task events out to SSE subscribers. Events are only queued on the calling thread, every subscriber
+ * is written to by the sender pool, so a slow client can't hold up the NOTIFY listener or other subscribers.
+ * A subscriber whose queue overflows is dropped, it can reconnect and resync.
+ */
+@Component
+@Slf4j
+public class TaskEventBroadcaster {
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final TaskEventProperties properties;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+
+    public TaskEventBroadcaster(TaskEventProperties properties) {
+        this.properties = properties;
+        this.sender = Executors.newFixedThreadPool(properties.getSenderThreads(),
+                new CustomizableThreadFactory("task-event-sender-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("task-event-heartbeat-"));
+        long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMillis, heartbeatMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(TaskFilter filter) {
+        if (filter.q() != null && !filter.q().isBlank()) {
+            throw new ResponseStatusException(BAD_REQUEST, "Task events can't be filtered by a search query");
+        }
+        return subscribe(filter, new SseEmitter(properties.getEmitterTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(TaskFilter filter, SseEmitter emitter) {
+        Subscription subscription = new Subscription(emitter, filter, properties.getSubscriberQueueCapacity());
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        enqueue(subscription, SseEmitter.event().comment("subscribed"));
+        return emitter;
+    }
+
+    public void broadcast(TaskEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (event.matches(subscription.filter)) {
+                enqueue(subscription, SseEmitter.event()
+                        .id(event.taskId() + ":" + event.version())
+                        .name(event.type().name().toLowerCase())
+                        .data(event));
+            }
+        }
+    }
+
+    void sendHeartbeats() {
+        for (Subscription subscription : subscriptions) {
+            enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    private void enqueue(Subscription subscription, SseEventBuilder event) {
+        if (!subscription.pending.offer(event)) {
+            log.debug("Dropping task event subscriber that can't keep up");
+            drop(subscription);
+            subscription.emitter.complete();
+            return;
+        }
+        scheduleDrain(subscription);
+    }
+
+    private void scheduleDrain(Subscription subscription) {
+        if (subscription.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                subscription.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        SseEventBuilder event;
+        while ((event = subscription.pending.poll()) != null) {
+            try {
+                subscription.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping task event subscriber: {}", e.getMessage());
+                drop(subscription);
+                return;
+            }
+        }
+        subscription.draining.set(false);
+        if (!subscription.pending.isEmpty()) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private void drop(Subscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.pending.clear();
+    }
+
+    private static class Subscription {
+        private final SseEmitter emitter;
+        private final TaskFilter filter;
+        private final Queue<SseEventBuilder> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter, TaskFilter filter, int queueCapacity) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
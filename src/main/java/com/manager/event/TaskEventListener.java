@@ -0,0 +1,103 @@
+package com.manager.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.cache.TaskCache;
+import com.manager.config.TaskEventProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventListener implements SmartLifecycle {
+    private static final TypeReference<List<TaskEvent>> EVENTS_TYPE = new TypeReference<>() {
+    };
+
+    private final DataSource dataSource;
+    private final TaskEventBroadcaster broadcaster;
+    private final TaskCache taskCache;
+    private final ObjectMapper objectMapper;
+    private final TaskEventProperties properties;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "task-event-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        listenerThread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + TaskEventPublisher.CHANNEL);
+                // Changes committed while the listener was disconnected were never announced to this node
+                taskCache.invalidateAll();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications =
+                            pgConnection.getNotifications((int) properties.getPollTimeout().toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Task event listener lost its connection, reconnecting in {}",
+                            properties.getReconnectDelay(), e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            for (TaskEvent event : objectMapper.readValue(payload, EVENTS_TYPE)) {
+                taskCache.invalidate(event.taskId());
+                broadcaster.broadcast(event);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed task event payload: {}", e.getOriginalMessage());
+            taskCache.invalidateAll();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
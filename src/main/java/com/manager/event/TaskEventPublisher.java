@@ -0,0 +1,97 @@
+package com.manager.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TaskEventPublisher {
+    static final String CHANNEL = "task_events";
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Queues the events in the current transaction. They are sent with NOTIFY right before it commits,
+     * and Postgres delivers notifications of a rolled back transaction to nobody.
+     */
+    public void publish(List<TaskEvent> events) {
+        if (!events.isEmpty()) {
+            pendingEvents().addAll(events);
+        }
+    }
+
+    public void publish(TaskEvent event) {
+        publish(List.of(event));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskEvent> pendingEvents() {
+        List<TaskEvent> events = (List<TaskEvent>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            List<TaskEvent> pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    notifyListeners(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskEventPublisher.this);
+                }
+            });
+            events = pending;
+        }
+        return events;
+    }
+
+    private void notifyListeners(List<TaskEvent> events) {
+        List<String> payloads = toPayloads(events);
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                for (String payload : payloads) {
+                    statement.setString(1, CHANNEL);
+                    statement.setString(2, payload);
+                    statement.execute();
+                }
+            }
+        });
+    }
+
+    private List<String> toPayloads(List<TaskEvent> events) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        for (TaskEvent event : events) {
+            String json = toJson(event);
+            if (payload.length() > 0 && payload.length() + json.length() + 2 > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.append(']').toString());
+                payload.setLength(0);
+            }
+            payload.append(payload.length() == 0 ? '[' : ',').append(json);
+        }
+        payloads.add(payload.append(']').toString());
+        return payloads;
+    }
+
+    private String toJson(TaskEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.manager.event;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
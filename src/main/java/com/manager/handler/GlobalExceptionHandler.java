@@ -2,6 +2,7 @@ package com.manager.handler;
 
 import com.manager.model.response.ApiErrorResponse;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
@@ -49,6 +50,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         ), ex.getStatusCode());
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return new ResponseEntity<>(new ApiErrorResponse(
+                "Task was modified concurrently, retry the request",
+                CONFLICT.toString(),
+                ex.getClass().getSimpleName(),
+                ex.getMessage()
+        ), CONFLICT);
+    }
+
     @ExceptionHandler(PropertyReferenceException.class)
     public ResponseEntity<ApiErrorResponse> handleResponseStatusException(PropertyReferenceException ex) {
         return new ResponseEntity<>(new ApiErrorResponse(
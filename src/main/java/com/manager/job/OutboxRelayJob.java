@@ -0,0 +1,38 @@
+package com.manager.job;
+
+import com.manager.config.OutboxProperties;
+import com.manager.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class OutboxRelayJob {
+    private final OutboxService outboxService;
+    private final OutboxProperties properties;
+    private final Counter failures;
+
+    public OutboxRelayJob(OutboxService outboxService, OutboxProperties properties, MeterRegistry registry) {
+        this.outboxService = outboxService;
+        this.properties = properties;
+        this.failures = Counter.builder("outbox.relay.failures")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "#{@outboxProperties.relayInterval.toMillis()}")
+    public void relayEvents() {
+        int relayed;
+        do {
+            try {
+                relayed = outboxService.relayBatch(properties.getBatchSize());
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Failed to relay outbox events, retrying on the next run", e);
+                return;
+            }
+        } while (relayed == properties.getBatchSize());
+    }
+}
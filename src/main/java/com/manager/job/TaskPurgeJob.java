@@ -0,0 +1,57 @@
+package com.manager.job;
+
+import com.manager.config.TaskPurgeProperties;
+import com.manager.config.TaskSyncProperties;
+import com.manager.repository.CommentRepository;
+import com.manager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.function.IntUnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskPurgeJob {
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TaskPurgeProperties properties;
+    private final TaskSyncProperties syncProperties;
+
+    @Scheduled(fixedDelayString = "#{@taskPurgeProperties.interval.toMillis()}")
+    public void purgeDeletedTasks() {
+        long comments = purge(commentRepository::deleteCommentsOfDeletedTasks);
+        Instant deletedBefore = Instant.now().minus(syncProperties.getTombstoneRetention());
+        long tasks = purge(limit -> taskRepository.deletePurgeableTasks(limit, deletedBefore));
+        long exits = purge(limit -> taskRepository.deleteExpiredFilterExits(limit, deletedBefore));
+        if (comments + tasks > 0) {
+            log.info("Purged {} deleted tasks and {} of their comments", tasks, comments);
+        }
+        if (exits > 0) {
+            log.info("Purged {} expired task filter exits", exits);
+        }
+    }
+
+    private long purge(IntUnaryOperator deleteBatch) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = deleteBatch.applyAsInt(properties.getBatchSize());
+            total += deleted;
+        } while (deleted == properties.getBatchSize() && pause());
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.manager.job;
+
+import com.manager.config.TaskStatsProperties;
+import com.manager.repository.UserRepository;
+import com.manager.repository.UserTaskStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsReconciliationJob {
+    private final UserTaskStatsRepository statsRepository;
+    private final UserRepository userRepository;
+    private final TaskStatsProperties properties;
+
+    @Scheduled(
+            initialDelayString = "#{@taskStatsProperties.reconciliationInterval.toMillis()}",
+            fixedDelayString = "#{@taskStatsProperties.reconciliationInterval.toMillis()}"
+    )
+    public void reconcileTaskStats() {
+        long maxUserId = userRepository.findMaxUserId().orElse(0L);
+        int batchSize = properties.getReconciliationBatchSize();
+        long repaired = 0;
+        for (long fromUserId = 0; fromUserId <= maxUserId; fromUserId += batchSize) {
+            try {
+                repaired += statsRepository.reconcile(fromUserId, fromUserId + batchSize);
+            } catch (TransientDataAccessException e) {
+                log.debug("Task stats of users [{}, {}) changed during reconciliation, retrying on the next run",
+                        fromUserId, fromUserId + batchSize);
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Repaired {} drifted task stats counters", repaired);
+        }
+    }
+}
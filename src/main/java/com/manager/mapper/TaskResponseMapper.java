@@ -19,7 +19,8 @@ public class TaskResponseMapper implements Mapper<Task, TaskResponse> {
                 task.getStatus(),
                 task.getPriority(),
                 userMapper.map(task.getAuthor()),
-                userMapper.map(task.getExecutor())
+                userMapper.map(task.getExecutor()),
+                task.getVersion()
         );
     }
 }
@@ -0,0 +1,11 @@
+package com.manager.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CommentSearchFilter(
+        @NotBlank @Size(min = 3, max = 256) String q,
+        Long authorId,
+        Boolean similar
+) {
+}
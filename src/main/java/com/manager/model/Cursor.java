@@ -0,0 +1,26 @@
+package com.manager.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record Cursor(
+        String property,
+        String value,
+        Long id
+) {
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = property + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split(SEPARATOR, 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor);
+        }
+        return new Cursor(parts[0], parts[2], Long.valueOf(parts[1]));
+    }
+}
@@ -0,0 +1,23 @@
+package com.manager.model;
+
+import com.manager.model.response.TaskResponse;
+
+import java.time.Instant;
+
+public record TaskChange(
+        Long taskId,
+        TaskResponse task,
+        Instant updatedAt,
+        boolean deleted
+) {
+    public TaskChange(TaskResponse task, Instant updatedAt, boolean deleted) {
+        this(task.taskId(), task, updatedAt, deleted);
+    }
+
+    /**
+     * A task that stopped matching the filter, clients drop it like a deleted one.
+     */
+    public static TaskChange exit(Long taskId, Instant exitedAt) {
+        return new TaskChange(taskId, null, exitedAt, true);
+    }
+}
@@ -3,6 +3,9 @@ package com.manager.model;
 import com.manager.entity.Priority;
 import com.manager.entity.Status;
 import com.manager.validation.ValueOfEnum;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
 
 public record TaskFilter(
         Long authorId,
@@ -10,6 +13,9 @@ public record TaskFilter(
         @ValueOfEnum(enumClass = Status.class, message = "Status must be any of: PENDING, IN_PROGRESS, COMPLETED")
         String status,
         @ValueOfEnum(enumClass = Priority.class, message = "Priority must be any of: LOW, MEDIUM, HIGH")
-        String priority
+        String priority,
+        @Size(max = 256, message = "Search query must be at most 256 characters")
+        String q,
+        Instant updatedSince
 ) {
 }
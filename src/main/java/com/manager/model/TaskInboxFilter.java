@@ -0,0 +1,10 @@
+package com.manager.model;
+
+import com.manager.entity.Status;
+import com.manager.validation.ValueOfEnum;
+
+public record TaskInboxFilter(
+        @ValueOfEnum(enumClass = Status.class, message = "Status must be any of: PENDING, IN_PROGRESS, COMPLETED")
+        String status
+) {
+}
@@ -0,0 +1,14 @@
+package com.manager.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBatchCreateRequest(
+        @NotEmpty(message = "Tasks may not be empty")
+        @Size(max = 10000, message = "No more than 10000 tasks can be created at once")
+        List<@Valid TaskCreateEditRequest> tasks
+) {
+}
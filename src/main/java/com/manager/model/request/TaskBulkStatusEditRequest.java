@@ -0,0 +1,28 @@
+package com.manager.model.request;
+
+import com.manager.entity.Status;
+import com.manager.model.TaskFilter;
+import com.manager.validation.ValueOfEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBulkStatusEditRequest(
+        @Size(max = 1000, message = "No more than 1000 task ids can be passed at once")
+        List<@NotNull Long> taskIds,
+        @Valid
+        TaskFilter filter,
+        @NotNull(message = "Status may not be null")
+        @ValueOfEnum(enumClass = Status.class, message = "Status must be any of: PENDING, IN_PROGRESS, COMPLETED")
+        String status
+) {
+    @Schema(hidden = true)
+    @AssertTrue(message = "Either taskIds or filter must be passed")
+    public boolean isSingleSelection() {
+        return (taskIds == null) != (filter == null);
+    }
+}
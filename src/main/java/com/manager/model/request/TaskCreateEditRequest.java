@@ -3,10 +3,16 @@ package com.manager.model.request;
 import com.manager.entity.Priority;
 import com.manager.validation.ValueOfEnum;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 public record TaskCreateEditRequest(
         @NotBlank(message = "Title may not be blank")
+        @Size(max = 128, message = "Title must be at most 128 characters")
+        @Pattern(regexp = "[^\\x00]*", message = "Title may not contain NUL characters")
         String title,
+        @Size(max = 255, message = "Description must be at most 255 characters")
+        @Pattern(regexp = "[^\\x00]*", message = "Description may not contain NUL characters")
         String description,
         @ValueOfEnum(enumClass = Priority.class, message = "Priority must be any of: LOW, MEDIUM, HIGH")
         String priority
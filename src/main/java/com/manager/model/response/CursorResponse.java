@@ -0,0 +1,18 @@
+package com.manager.model.response;
+
+import java.util.List;
+
+public record CursorResponse<T>(
+        List<T> content,
+        Metadata metadata
+) {
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorResponse<>(content, new Metadata(content.size(), nextCursor));
+    }
+
+    public record Metadata(
+            int size,
+            String nextCursor
+    ) {
+    }
+}
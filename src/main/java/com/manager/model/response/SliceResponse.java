@@ -0,0 +1,22 @@
+package com.manager.model.response;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public record SliceResponse<T>(
+        List<T> content,
+        Metadata metadata
+) {
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        var metadata = new Metadata(slice.getNumber(), slice.getSize(), slice.hasNext());
+        return new SliceResponse<>(slice.getContent(), metadata);
+    }
+
+    public record Metadata(
+            int page,
+            int size,
+            boolean hasNext
+    ) {
+    }
+}
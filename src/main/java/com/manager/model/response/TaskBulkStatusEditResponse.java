@@ -0,0 +1,11 @@
+package com.manager.model.response;
+
+import java.util.List;
+
+public record TaskBulkStatusEditResponse(
+        List<Long> updated,
+        List<Long> forbidden,
+        List<Long> notFound,
+        boolean hasMore
+) {
+}
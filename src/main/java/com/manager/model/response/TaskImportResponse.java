@@ -0,0 +1,15 @@
+package com.manager.model.response;
+
+import java.util.List;
+
+public record TaskImportResponse(
+        long imported,
+        long rejected,
+        List<LineError> errors
+) {
+    public record LineError(
+            long line,
+            String message
+    ) {
+    }
+}
@@ -10,6 +10,7 @@ public record TaskResponse(
         Status status,
         Priority priority,
         UserResponse author,
-        UserResponse executor
+        UserResponse executor,
+        Long version
 ) {
 }
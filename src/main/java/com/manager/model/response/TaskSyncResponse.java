@@ -0,0 +1,16 @@
+package com.manager.model.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TaskSyncResponse(
+        List<TaskResponse> updated,
+        List<Long> deleted,
+        Metadata metadata
+) {
+    public record Metadata(
+            String nextCursor,
+            Instant syncedAt
+    ) {
+    }
+}
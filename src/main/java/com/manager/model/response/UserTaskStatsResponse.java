@@ -0,0 +1,18 @@
+package com.manager.model.response;
+
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+
+import java.util.Map;
+
+public record UserTaskStatsResponse(
+        TaskCounts authored,
+        TaskCounts assigned
+) {
+    public record TaskCounts(
+            long total,
+            Map<Status, Long> byStatus,
+            Map<Priority, Long> byPriority
+    ) {
+    }
+}
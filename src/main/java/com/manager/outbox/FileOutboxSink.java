@@ -0,0 +1,39 @@
+package com.manager.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.config.OutboxProperties;
+import com.manager.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxSink {
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    @Override
+    public void send(List<OutboxEvent> events) throws IOException {
+        Path file = properties.getFile();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        }
+    }
+}
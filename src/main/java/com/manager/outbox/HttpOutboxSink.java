@@ -0,0 +1,55 @@
+package com.manager.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.config.OutboxProperties;
+import com.manager.entity.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final HttpClient client;
+
+    public HttpOutboxSink(ObjectMapper objectMapper, OutboxProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(properties.getTimeout())
+                .build();
+    }
+
+    @Override
+    public void send(List<OutboxEvent> events) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (OutboxEvent event : events) {
+            body.append(objectMapper.writeValueAsString(event)).append('\n');
+        }
+        HttpRequest request = HttpRequest.newBuilder(properties.getUrl())
+                .timeout(properties.getTimeout())
+                .header(HttpHeaders.CONTENT_TYPE, "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+
+        HttpResponse<Void> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while sending outbox events");
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Outbox sink responded with status " + response.statusCode());
+        }
+    }
+}
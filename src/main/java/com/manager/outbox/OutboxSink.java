@@ -0,0 +1,16 @@
+package com.manager.outbox;
+
+import com.manager.entity.OutboxEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface OutboxSink {
+    /**
+     * Delivers the events. The relay deletes them only after this returns,
+     * so a batch may be delivered again after a failure and consumers should dedupe by event id.
+     * Event ids are allocated in pooled blocks and don't follow commit order, so consumers should
+     * order the events of an aggregate by the version in its payload, not by event id.
+     */
+    void send(List<OutboxEvent> events) throws IOException;
+}
@@ -0,0 +1,44 @@
+package com.manager.querydsl;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FullTextExpressions {
+    static final String MATCH_FUNCTION = "fts_match";
+    static final String RANK_FUNCTION = "fts_rank";
+    static final String SIMILAR_FUNCTION = "trgm_similar";
+    private static final char LIKE_ESCAPE = '!';
+
+    public static Predicate matches(StringPath searchVector, String query) {
+        return Expressions.booleanTemplate(MATCH_FUNCTION + "({0}, {1}) = true", searchVector, query);
+    }
+
+    public static NumberExpression<Double> rank(StringPath searchVector, String query) {
+        return Expressions.numberTemplate(Double.class, RANK_FUNCTION + "({0}, {1})", searchVector, query);
+    }
+
+    public static Predicate containsIgnoreCase(StringPath text, String substring) {
+        String pattern = "%" + escapeLike(substring) + "%";
+        return Expressions.booleanTemplate("{0} ilike {1} escape '" + LIKE_ESCAPE + "'", text, pattern);
+    }
+
+    public static Predicate similar(StringPath text, String query) {
+        return Expressions.booleanTemplate(SIMILAR_FUNCTION + "({0}, {1}) = true", text, query);
+    }
+
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.manager.querydsl;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+                FullTextExpressions.MATCH_FUNCTION,
+                "(?1 @@ websearch_to_tsquery('simple', ?2))",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                FullTextExpressions.RANK_FUNCTION,
+                "ts_rank(?1, websearch_to_tsquery('simple', ?2))",
+                basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                FullTextExpressions.SIMILAR_FUNCTION,
+                "(?1 %> ?2)",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+    }
+}
@@ -26,8 +26,18 @@ public class QPredicates {
         return this;
     }
 
+    public QPredicates add(Predicate predicate) {
+        predicates.add(predicate);
+        return this;
+    }
+
     public Predicate build() {
         return Optional.ofNullable(ExpressionUtils.allOf(predicates))
                 .orElseGet(() -> Expressions.asBoolean(true).isTrue());
     }
+
+    public Predicate buildAny() {
+        return Optional.ofNullable(ExpressionUtils.anyOf(predicates))
+                .orElseGet(() -> Expressions.asBoolean(true).isFalse());
+    }
 }
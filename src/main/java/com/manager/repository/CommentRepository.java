@@ -2,7 +2,22 @@ package com.manager.repository;
 
 import com.manager.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long>, QuerydslPredicateExecutor<Comment> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, QuerydslPredicateExecutor<Comment>,
+        CommentRepositoryCustom {
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            DELETE FROM comment
+            WHERE comment_id IN (
+                SELECT c.comment_id FROM comment c
+                JOIN task t ON t.task_id = c.task_id
+                WHERE t.deleted_at IS NOT NULL
+                LIMIT :limit
+            )""")
+    int deleteCommentsOfDeletedTasks(int limit);
 }
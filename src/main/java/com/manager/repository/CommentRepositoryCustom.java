@@ -0,0 +1,17 @@
+package com.manager.repository;
+
+import com.manager.model.response.CommentResponse;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    Page<CommentResponse> findAllResponses(Predicate predicate, Pageable pageable);
+
+    Slice<CommentResponse> findSliceOfResponses(Predicate predicate, Pageable pageable);
+
+    List<CommentResponse> findAllResponses(Predicate predicate, int limit);
+}
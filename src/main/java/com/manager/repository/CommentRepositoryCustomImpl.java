@@ -0,0 +1,82 @@
+package com.manager.repository;
+
+import com.manager.entity.Comment;
+import com.manager.entity.QUser;
+import com.manager.model.response.CommentResponse;
+import com.manager.model.response.UserResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+import static com.manager.entity.QComment.comment;
+
+public class CommentRepositoryCustomImpl extends QuerydslRepositorySupport implements CommentRepositoryCustom {
+    private static final QUser author = new QUser("author");
+
+    public CommentRepositoryCustomImpl() {
+        super(Comment.class);
+    }
+
+    @Override
+    public Page<CommentResponse> findAllResponses(Predicate predicate, Pageable pageable) {
+        List<CommentResponse> content = getQuerydsl().applyPagination(pageable, selectResponses(predicate))
+                .fetch()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> from(comment)
+                .select(comment.count())
+                .where(predicate)
+                .fetchOne());
+    }
+
+    @Override
+    public Slice<CommentResponse> findSliceOfResponses(Predicate predicate, Pageable pageable) {
+        List<CommentResponse> content = getQuerydsl().applySorting(pageable.getSort(), selectResponses(predicate))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<CommentResponse> findAllResponses(Predicate predicate, int limit) {
+        return selectResponses(predicate)
+                .orderBy(comment.commentId.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private JPQLQuery<Tuple> selectResponses(Predicate predicate) {
+        return from(comment)
+                .join(comment.author, author)
+                .select(comment.commentId, comment.text, comment.task.taskId, author.userId, author.email)
+                .where(predicate);
+    }
+
+    private CommentResponse toResponse(Tuple row) {
+        return new CommentResponse(
+                row.get(comment.commentId),
+                row.get(comment.text),
+                row.get(comment.task.taskId),
+                new UserResponse(row.get(author.userId), row.get(author.email))
+        );
+    }
+}
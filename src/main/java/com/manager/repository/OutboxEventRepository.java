@@ -0,0 +1,18 @@
+package com.manager.repository;
+
+import com.manager.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM outbox_event
+            ORDER BY event_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED""")
+    List<OutboxEvent> claimBatch(int limit);
+}
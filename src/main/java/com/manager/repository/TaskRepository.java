@@ -1,10 +1,63 @@
 package com.manager.repository;
 
 import com.manager.entity.Task;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, QuerydslPredicateExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, QuerydslPredicateExecutor<Task>,
+        TaskRepositoryCustom {
+    @Query("select t.version from Task t where t.taskId = :taskId and t.deletedAt is null")
+    Optional<Long> findVersionByTaskId(Long taskId);
+
+    @Query("select count(t) > 0 from Task t where t.taskId = :taskId and t.deletedAt is null")
+    boolean existsActiveById(Long taskId);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t.taskId from Task t where t.taskId = :taskId and t.deletedAt is null")
+    Optional<Long> lockActiveTaskId(Long taskId);
+
+    @Query("select t.taskId from Task t where t.taskId in :taskIds and t.deletedAt is null")
+    List<Long> findExistingTaskIds(Collection<Long> taskIds);
+
+    @Query(nativeQuery = true, value = """
+            UPDATE task
+            SET status = CAST(:status AS status), version = version + 1, updated_at = now()
+            WHERE task_id IN (:taskIds) AND (author_id = :userId OR executor_id = :userId) AND deleted_at IS NULL
+            RETURNING task_id""")
+    List<Long> updateStatus(Collection<Long> taskIds, String status, Long userId);
+
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            DELETE FROM task
+            WHERE task_id IN (
+                SELECT t.task_id FROM task t
+                WHERE t.deleted_at < :deletedBefore
+                  AND NOT EXISTS (SELECT 1 FROM comment c WHERE c.task_id = t.task_id)
+                LIMIT :limit
+            )""")
+    int deletePurgeableTasks(int limit, Instant deletedBefore);
+
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            DELETE FROM task_filter_exit
+            WHERE exit_id IN (
+                SELECT exit_id FROM task_filter_exit
+                WHERE exited_at < :exitedBefore
+                LIMIT :limit
+            )""")
+    int deleteExpiredFilterExits(int limit, Instant exitedBefore);
 }
@@ -0,0 +1,49 @@
+package com.manager.repository;
+
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import com.manager.entity.Task;
+import com.manager.model.TaskChange;
+import com.manager.model.response.TaskResponse;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    Optional<TaskResponse> findResponseById(Long taskId);
+
+    Page<TaskResponse> findAllResponses(Predicate predicate, Pageable pageable);
+
+    Page<TaskResponse> findAllResponsesByRank(Predicate predicate, String query, Pageable pageable);
+
+    Slice<TaskResponse> findSliceOfResponses(Predicate predicate, Pageable pageable);
+
+    List<TaskResponse> findAllResponses(Predicate predicate, Sort sort, int limit);
+
+    Stream<TaskResponse> streamResponses(Predicate predicate);
+
+    List<TaskChange> findChanges(Predicate predicate, int limit);
+
+    List<TaskChange> findFilterExits(Predicate predicate, int limit);
+
+    List<TaskResponse> findInbox(Long userId, Status status, Long beforeTaskId, int limit);
+
+    List<Long> findTaskIdsForUpdate(Predicate predicate, int limit);
+
+    List<Long> copyTasks(List<Task> tasks);
+
+    Optional<TaskResponse> updateTask(Long taskId, Long authorId, String title, String description, Priority priority);
+
+    Optional<TaskResponse> updateTaskStatus(Long taskId, Long userId, Status status);
+
+    Optional<TaskResponse> updateTaskExecutor(Long taskId, Long authorId, Long executorId);
+
+    Optional<TaskResponse> softDeleteTask(Long taskId, Long authorId, Instant deletedAt);
+}
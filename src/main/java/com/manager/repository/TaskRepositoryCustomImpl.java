@@ -0,0 +1,357 @@
+package com.manager.repository;
+
+import com.manager.entity.Priority;
+import com.manager.entity.QUser;
+import com.manager.entity.Status;
+import com.manager.entity.Task;
+import com.manager.model.TaskChange;
+import com.manager.model.response.TaskResponse;
+import com.manager.model.response.UserResponse;
+import com.manager.querydsl.FullTextExpressions;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPQLQuery;
+import jakarta.persistence.LockModeType;
+import org.hibernate.Session;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.postgresql.PGConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.manager.entity.QTask.task;
+import static com.manager.entity.QTaskFilterExit.taskFilterExit;
+
+public class TaskRepositoryCustomImpl extends QuerydslRepositorySupport implements TaskRepositoryCustom {
+    private static final QUser author = new QUser("author");
+    private static final QUser executor = new QUser("executor");
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final String UPDATE_RETURNING_RESPONSE = """
+            WITH updated AS (
+                UPDATE task
+                SET %s, version = version + 1, updated_at = now()
+                WHERE task_id = :taskId AND %s AND deleted_at IS NULL
+                RETURNING task_id, title, description, status, priority, author_id, executor_id, version
+            )
+            SELECT u.task_id, u.title, u.description, CAST(u.status AS text), CAST(u.priority AS text),
+                   a.user_id, a.email, e.user_id, e.email, u.version
+            FROM updated u
+            JOIN users a ON a.user_id = u.author_id
+            LEFT JOIN users e ON e.user_id = u.executor_id""";
+    private static final String INBOX = """
+            SELECT t.task_id, t.title, t.description, CAST(t.status AS text), CAST(t.priority AS text),
+                   a.user_id, a.email, e.user_id, e.email, t.version
+            FROM ((SELECT task_id FROM task
+                   WHERE author_id = :userId AND deleted_at IS NULL %1$s
+                   ORDER BY task_id DESC LIMIT :limit)
+                  UNION
+                  (SELECT task_id FROM task
+                   WHERE executor_id = :userId AND deleted_at IS NULL %1$s
+                   ORDER BY task_id DESC LIMIT :limit)) inbox
+            JOIN task t ON t.task_id = inbox.task_id
+            JOIN users a ON a.user_id = t.author_id
+            LEFT JOIN users e ON e.user_id = t.executor_id
+            ORDER BY t.task_id DESC
+            LIMIT :limit""";
+    private static final String COPY_TASKS =
+            "COPY task (task_id, title, description, status, priority, author_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String AUTHOR_GUARD = "author_id = :userId";
+    private static final String AUTHOR_OR_EXECUTOR_GUARD = "(author_id = :userId OR executor_id = :userId)";
+
+    public TaskRepositoryCustomImpl() {
+        super(Task.class);
+    }
+
+    @Override
+    public Optional<TaskResponse> findResponseById(Long taskId) {
+        return Optional.ofNullable(selectResponses(task.taskId.eq(taskId).and(task.deletedAt.isNull())).fetchOne())
+                .map(this::toResponse);
+    }
+
+    @Override
+    public Page<TaskResponse> findAllResponses(Predicate predicate, Pageable pageable) {
+        List<TaskResponse> content = getQuerydsl().applyPagination(pageable, selectResponses(predicate))
+                .fetch()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> from(task)
+                .select(task.count())
+                .where(predicate)
+                .fetchOne());
+    }
+
+    @Override
+    public Page<TaskResponse> findAllResponsesByRank(Predicate predicate, String query, Pageable pageable) {
+        List<TaskResponse> content = selectResponses(predicate)
+                .orderBy(FullTextExpressions.rank(task.searchVector, query).desc(), task.taskId.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> from(task)
+                .select(task.count())
+                .where(predicate)
+                .fetchOne());
+    }
+
+    @Override
+    public List<TaskResponse> findAllResponses(Predicate predicate, Sort sort, int limit) {
+        return getQuerydsl().applySorting(sort, selectResponses(predicate))
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    public Stream<TaskResponse> streamResponses(Predicate predicate) {
+        return getQuerydsl().createQuery(task)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .join(task.author, author)
+                .leftJoin(task.executor, executor)
+                .select(task.taskId, task.title, task.description, task.status, task.priority, task.version,
+                        author.userId, author.email, executor.userId, executor.email)
+                .where(predicate)
+                .orderBy(task.taskId.asc())
+                .stream()
+                .map(this::toResponse);
+    }
+
+    @Override
+    public Slice<TaskResponse> findSliceOfResponses(Predicate predicate, Pageable pageable) {
+        List<TaskResponse> content = getQuerydsl().applySorting(pageable.getSort(), selectResponses(predicate))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<TaskChange> findChanges(Predicate predicate, int limit) {
+        return from(task)
+                .join(task.author, author)
+                .leftJoin(task.executor, executor)
+                .select(task.taskId, task.title, task.description, task.status, task.priority, task.version,
+                        author.userId, author.email, executor.userId, executor.email, task.updatedAt, task.deletedAt)
+                .where(predicate)
+                .orderBy(task.updatedAt.asc(), task.taskId.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> new TaskChange(toResponse(row), row.get(task.updatedAt), row.get(task.deletedAt) != null))
+                .toList();
+    }
+
+    @Override
+    public List<TaskChange> findFilterExits(Predicate predicate, int limit) {
+        return from(taskFilterExit)
+                .select(taskFilterExit.taskId, taskFilterExit.exitedAt)
+                .where(predicate)
+                .orderBy(taskFilterExit.exitedAt.asc(), taskFilterExit.taskId.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(row -> TaskChange.exit(row.get(taskFilterExit.taskId), row.get(taskFilterExit.exitedAt)))
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskResponse> findInbox(Long userId, Status status, Long beforeTaskId, int limit) {
+        String conditions = (status == null ? "" : "AND status = CAST(:status AS status) ")
+                            + (beforeTaskId == null ? "" : "AND task_id < :beforeTaskId");
+        NativeQuery<Object[]> query = getEntityManager()
+                .createNativeQuery(INBOX.formatted(conditions))
+                .unwrap(NativeQuery.class)
+                .setParameter("userId", userId, StandardBasicTypes.LONG)
+                .setParameter("limit", limit, StandardBasicTypes.INTEGER);
+        if (status != null) {
+            query.setParameter("status", status.name(), StandardBasicTypes.STRING);
+        }
+        if (beforeTaskId != null) {
+            query.setParameter("beforeTaskId", beforeTaskId, StandardBasicTypes.LONG);
+        }
+        return query.getResultList().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findTaskIdsForUpdate(Predicate predicate, int limit) {
+        return getQuerydsl().createQuery(task)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .select(task.taskId)
+                .where(predicate)
+                .orderBy(task.taskId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> copyTasks(List<Task> tasks) {
+        List<Long> taskIds = allocateTaskIds(tasks.size());
+        StringBuilder rows = new StringBuilder(tasks.size() * 128);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task copied = tasks.get(i);
+            copied.setTaskId(taskIds.get(i));
+            copied.setVersion(0L);
+            rows.append(copied.getTaskId()).append(',')
+                    .append(csvValue(copied.getTitle())).append(',')
+                    .append(csvValue(copied.getDescription())).append(',')
+                    .append(copied.getStatus().name()).append(',')
+                    .append(copied.getPriority().name()).append(',')
+                    .append(copied.getAuthor().getUserId()).append('\n');
+        }
+        getEntityManager().unwrap(Session.class).doWork(connection -> {
+            try {
+                connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_TASKS, new StringReader(rows.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return taskIds;
+    }
+
+    @Override
+    public Optional<TaskResponse> updateTask(Long taskId, Long authorId, String title, String description,
+                                             Priority priority) {
+        NativeQuery<Object[]> query = updateReturningResponse(
+                priority == null
+                        ? "title = :title, description = :description"
+                        : "title = :title, description = :description, priority = CAST(:priority AS priority)",
+                AUTHOR_GUARD, taskId, authorId)
+                .setParameter("title", title, StandardBasicTypes.STRING)
+                .setParameter("description", description, StandardBasicTypes.STRING);
+        if (priority != null) {
+            query.setParameter("priority", priority.name(), StandardBasicTypes.STRING);
+        }
+        return fetchUpdated(query);
+    }
+
+    @Override
+    public Optional<TaskResponse> updateTaskStatus(Long taskId, Long userId, Status status) {
+        return fetchUpdated(updateReturningResponse(
+                "status = CAST(:status AS status)", AUTHOR_OR_EXECUTOR_GUARD, taskId, userId)
+                .setParameter("status", status.name(), StandardBasicTypes.STRING));
+    }
+
+    @Override
+    public Optional<TaskResponse> updateTaskExecutor(Long taskId, Long authorId, Long executorId) {
+        return fetchUpdated(updateReturningResponse(
+                "executor_id = :executorId", AUTHOR_GUARD, taskId, authorId)
+                .setParameter("executorId", executorId, StandardBasicTypes.LONG));
+    }
+
+    @Override
+    public Optional<TaskResponse> softDeleteTask(Long taskId, Long authorId, Instant deletedAt) {
+        return fetchUpdated(updateReturningResponse(
+                "deleted_at = :deletedAt", AUTHOR_GUARD, taskId, authorId)
+                .setParameter("deletedAt", deletedAt, StandardBasicTypes.INSTANT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Object[]> updateReturningResponse(String set, String guard, Long taskId, Long userId) {
+        return getEntityManager()
+                .createNativeQuery(UPDATE_RETURNING_RESPONSE.formatted(set, guard))
+                .unwrap(NativeQuery.class)
+                .setParameter("taskId", taskId, StandardBasicTypes.LONG)
+                .setParameter("userId", userId, StandardBasicTypes.LONG);
+    }
+
+    private Optional<TaskResponse> fetchUpdated(NativeQuery<Object[]> query) {
+        return query.getResultList().stream()
+                .findFirst()
+                .map(this::toResponse);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> allocateTaskIds(int count) {
+        List<Long> taskIds = new ArrayList<>(count);
+        while (taskIds.size() < count) {
+            int blocks = (count - taskIds.size() + Task.ID_ALLOCATION_SIZE - 1) / Task.ID_ALLOCATION_SIZE;
+            List<Long> hiValues = getEntityManager()
+                    .createNativeQuery("SELECT nextval('task_task_id_seq') FROM generate_series(1, :blocks)")
+                    .unwrap(NativeQuery.class)
+                    .setParameter("blocks", blocks, StandardBasicTypes.INTEGER)
+                    .addScalar("nextval", StandardBasicTypes.LONG)
+                    .getResultList();
+            for (Long hiValue : hiValues) {
+                long id = Math.max(1, hiValue - Task.ID_ALLOCATION_SIZE + 1);
+                for (; id <= hiValue && taskIds.size() < count; id++) {
+                    taskIds.add(id);
+                }
+            }
+        }
+        return taskIds;
+    }
+
+    private String csvValue(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private TaskResponse toResponse(Object[] row) {
+        return new TaskResponse(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                Status.valueOf((String) row[3]),
+                Priority.valueOf((String) row[4]),
+                new UserResponse((Long) row[5], (String) row[6]),
+                row[7] == null ? null : new UserResponse((Long) row[7], (String) row[8]),
+                (Long) row[9]
+        );
+    }
+
+    private JPQLQuery<Tuple> selectResponses(Predicate predicate) {
+        return from(task)
+                .join(task.author, author)
+                .leftJoin(task.executor, executor)
+                .select(task.taskId, task.title, task.description, task.status, task.priority, task.version,
+                        author.userId, author.email, executor.userId, executor.email)
+                .where(predicate);
+    }
+
+    private TaskResponse toResponse(Tuple row) {
+        return new TaskResponse(
+                row.get(task.taskId),
+                row.get(task.title),
+                row.get(task.description),
+                row.get(task.status),
+                row.get(task.priority),
+                new UserResponse(row.get(author.userId), row.get(author.email)),
+                row.get(executor.userId) == null
+                        ? null
+                        : new UserResponse(row.get(executor.userId), row.get(executor.email)),
+                row.get(task.version)
+        );
+    }
+}
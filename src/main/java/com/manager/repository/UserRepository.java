@@ -2,6 +2,8 @@ package com.manager.repository;
 
 import com.manager.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +13,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("select max(u.userId) from User u")
+    Optional<Long> findMaxUserId();
+
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.userId = :userId and u.password = :oldPassword")
+    int updatePassword(Long userId, String oldPassword, String newPassword);
 }
@@ -0,0 +1,65 @@
+package com.manager.repository;
+
+import com.manager.entity.UserTaskStats;
+import com.manager.entity.UserTaskStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserTaskStatsRepository extends JpaRepository<UserTaskStats, UserTaskStatsId> {
+    List<UserTaskStats> findAllByUserId(Long userId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            WITH counted AS (
+                SELECT author_id, executor_id, status, priority FROM task
+                WHERE task_id IN (:taskIds) AND deleted_at IS NULL
+                ORDER BY task_id
+                FOR UPDATE
+            )
+            INSERT INTO user_task_stats (user_id, role, status, priority, task_count)
+            SELECT user_id, role, status, priority, :delta * count(*)
+            FROM (SELECT author_id AS user_id, 'AUTHOR' AS role, status, priority FROM counted
+                  UNION ALL
+                  SELECT executor_id, 'EXECUTOR', status, priority FROM counted WHERE executor_id IS NOT NULL) c
+            GROUP BY user_id, role, status, priority
+            ORDER BY user_id, role, status, priority
+            ON CONFLICT (user_id, role, status, priority)
+                DO UPDATE SET task_count = user_task_stats.task_count + EXCLUDED.task_count""")
+    int applyTaskCounts(Collection<Long> taskIds, int delta);
+
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    @Query(nativeQuery = true, value = """
+            WITH actual AS (
+                SELECT user_id, role, status, priority, count(*) AS task_count
+                FROM (SELECT author_id AS user_id, 'AUTHOR' AS role, status, priority FROM task
+                      WHERE author_id >= :fromUserId AND author_id < :toUserId AND deleted_at IS NULL
+                      UNION ALL
+                      SELECT executor_id, 'EXECUTOR', status, priority FROM task
+                      WHERE executor_id >= :fromUserId AND executor_id < :toUserId AND deleted_at IS NULL) t
+                GROUP BY user_id, role, status, priority
+            ), zeroed AS (
+                UPDATE user_task_stats s SET task_count = 0
+                WHERE s.user_id >= :fromUserId AND s.user_id < :toUserId AND s.task_count <> 0
+                  AND NOT EXISTS (SELECT 1 FROM actual a
+                                  WHERE a.user_id = s.user_id AND a.role = s.role
+                                    AND a.status = s.status AND a.priority = s.priority)
+                RETURNING 1
+            ), repaired AS (
+                INSERT INTO user_task_stats (user_id, role, status, priority, task_count)
+                SELECT user_id, role, status, priority, task_count FROM actual
+                ON CONFLICT (user_id, role, status, priority)
+                    DO UPDATE SET task_count = EXCLUDED.task_count
+                    WHERE user_task_stats.task_count <> EXCLUDED.task_count
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM zeroed) + (SELECT count(*) FROM repaired)""")
+    long reconcile(long fromUserId, long toUserId);
+}
@@ -5,9 +5,11 @@ import com.manager.model.AuthToken;
 import com.manager.model.request.AuthRequest;
 import com.manager.model.response.AuthResponse;
 import com.manager.util.JwtUtil;
+import com.manager.util.PasswordHasher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -15,21 +17,35 @@ import static org.springframework.http.HttpStatus.FORBIDDEN;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class AuthService {
     private final JwtUtil jwtUtil;
     private final UserService userService;
-    private final PasswordEncoder encoder;
+    private final PasswordHasher passwordHasher;
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse authenticate(AuthRequest authRequest) {
         User user = userService.findUserByEmail(authRequest.email());
 
-        if (!encoder.matches(authRequest.password(), user.getPassword())) {
+        if (!passwordHasher.matches(authRequest.password(), user.getPassword())) {
             throw new ResponseStatusException(FORBIDDEN, "Forbidden: invalid password");
         }
 
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            upgradePassword(user, authRequest.password());
+        }
+
         String token = jwtUtil.createToken(new AuthToken(user.getUserId(), user.getEmail()));
 
         return new AuthResponse(user.getUserId(), user.getEmail(), token);
     }
+
+    private void upgradePassword(User user, String rawPassword) {
+        try {
+            userService.upgradePassword(user.getUserId(), user.getPassword(), passwordHasher.encode(rawPassword));
+        } catch (ResponseStatusException e) {
+            log.debug("Password upgrade for user {} postponed: {}", user.getUserId(), e.getReason());
+        }
+    }
 }
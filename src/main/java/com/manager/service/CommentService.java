@@ -1,48 +1,127 @@
 package com.manager.service;
 
 import com.manager.entity.Comment;
+import com.manager.entity.OutboxEvent;
+import com.manager.event.TaskEventType;
 import com.manager.mapper.CommentResponseMapper;
+import com.manager.model.AuthToken;
 import com.manager.model.CommentFilter;
+import com.manager.model.CommentSearchFilter;
+import com.manager.model.Cursor;
 import com.manager.model.request.CommentCreateRequest;
 import com.manager.model.response.CommentResponse;
+import com.manager.model.response.CursorResponse;
+import com.manager.querydsl.FullTextExpressions;
 import com.manager.querydsl.QPredicates;
 import com.manager.repository.CommentRepository;
+import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 import static com.manager.entity.QComment.comment;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+    private static final String SEARCH_CURSOR_PROPERTY = "commentId";
+
     private final CommentRepository commentRepository;
     private final TaskService taskService;
     private final UserService userService;
     private final CommentResponseMapper commentMapper;
+    private final OutboxService outboxService;
 
     @Transactional
-    public CommentResponse addComment(Long taskId, CommentCreateRequest commentRequest, Long userId) {
+    public CommentResponse addComment(Long taskId, CommentCreateRequest commentRequest, AuthToken author) {
         Comment comment = Comment.builder()
-                .task(taskService.getTask(taskId))
-                .author(userService.findUserById(userId))
+                .task(taskService.getActiveTaskReference(taskId))
+                .author(userService.getUserReference(author))
                 .text(commentRequest.text())
                 .build();
 
-        comment = commentRepository.save(comment);
-        return commentMapper.map(comment);
+        try {
+            comment = commentRepository.save(comment);
+        } catch (DataIntegrityViolationException e) {
+            throw referenceNotFound(e, taskId, author.userId());
+        }
+        CommentResponse created = commentMapper.map(comment);
+        outboxService.append(OutboxEvent.COMMENT_AGGREGATE, TaskEventType.CREATED.name(), List.of(created), CommentResponse::commentId);
+        return created;
     }
 
     public Page<CommentResponse> getAllTaskComments(Long taskId, CommentFilter filter, Pageable pageable) {
-        var predicate = QPredicates.builder()
+        return commentRepository.findAllResponses(filterPredicate(taskId, filter), pageable);
+    }
+
+    public Slice<CommentResponse> getAllTaskCommentsSlice(Long taskId, CommentFilter filter, Pageable pageable) {
+        return commentRepository.findSliceOfResponses(filterPredicate(taskId, filter), pageable);
+    }
+
+    public CursorResponse<CommentResponse> searchComments(Long taskId, CommentSearchFilter filter, String after,
+                                                          int size) {
+        Long afterCommentId = after == null || after.isBlank() ? null : decodeSearchCursor(after);
+        Predicate predicate = QPredicates.builder()
                 .add(taskId, comment.task.taskId::eq)
                 .add(filter.authorId(), comment.author.userId::eq)
+                .add(afterCommentId, comment.commentId::gt)
+                .add(Boolean.TRUE.equals(filter.similar())
+                        ? FullTextExpressions.similar(comment.text, filter.q())
+                        : FullTextExpressions.containsIgnoreCase(comment.text, filter.q()))
+                .add(comment.task.deletedAt.isNull())
                 .build();
 
-        return commentRepository.findAll(predicate, pageable)
-                .map(commentMapper::map);
+        List<CommentResponse> comments = commentRepository.findAllResponses(predicate, size + 1);
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> content = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = hasNext ? searchCursor(content.get(size - 1)).encode() : null;
+
+        return CursorResponse.of(content, nextCursor);
+    }
+
+    private Long decodeSearchCursor(String after) {
+        Cursor cursor;
+        try {
+            cursor = Cursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, "Invalid cursor: " + after);
+        }
+        if (!cursor.property().equals(SEARCH_CURSOR_PROPERTY)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Cursor was issued for sorting by " + cursor.property());
+        }
+        return cursor.id();
+    }
+
+    private Cursor searchCursor(CommentResponse lastComment) {
+        return new Cursor(SEARCH_CURSOR_PROPERTY, String.valueOf(lastComment.commentId()), lastComment.commentId());
+    }
+
+    private ResponseStatusException referenceNotFound(DataIntegrityViolationException e, Long taskId, Long userId) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        if (constraintName != null && constraintName.contains("author_id")) {
+            return new ResponseStatusException(NOT_FOUND, "User with id: " + userId + " not found");
+        }
+        return new ResponseStatusException(NOT_FOUND, "Task with id: " + taskId + " not found");
+    }
+
+    private Predicate filterPredicate(Long taskId, CommentFilter filter) {
+        return QPredicates.builder()
+                .add(taskId, comment.task.taskId::eq)
+                .add(filter.authorId(), comment.author.userId::eq)
+                .add(comment.task.deletedAt.isNull())
+                .build();
     }
 }
@@ -0,0 +1,75 @@
+package com.manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.entity.OutboxEvent;
+import com.manager.outbox.OutboxSink;
+import com.manager.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final ObjectMapper objectMapper;
+    private final Timer lag;
+    private final DistributionSummary batchSize;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink,
+                         ObjectMapper objectMapper, MeterRegistry registry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.objectMapper = objectMapper;
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from writing an event to the outbox until it is delivered to the sink")
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("outbox.relay.batch.size")
+                .register(registry);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void append(String aggregateType, String eventType, List<T> payloads, Function<T, Long> aggregateId) {
+        outboxEventRepository.saveAll(payloads.stream()
+                .map(payload -> OutboxEvent.builder()
+                        .aggregateType(aggregateType)
+                        .aggregateId(aggregateId.apply(payload))
+                        .eventType(eventType)
+                        .payload(objectMapper.valueToTree(payload))
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Sends the oldest unclaimed events to the sink and deletes them. Rows claimed by a relay on another node
+     * are skipped, so events of one aggregate may reach the sink out of order when several nodes relay.
+     */
+    @Transactional
+    public int relayBatch(int limit) {
+        List<OutboxEvent> events = outboxEventRepository.claimBatch(limit);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            outboxSink.send(events);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getEventId).toList());
+
+        Instant now = Instant.now();
+        events.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), now)));
+        batchSize.record(events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,118 @@
+package com.manager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.manager.model.AuthToken;
+import com.manager.model.request.TaskCreateEditRequest;
+import com.manager.model.response.TaskImportResponse;
+import com.manager.model.response.TaskImportResponse.LineError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskImportService {
+    private static final int CHUNK_SIZE = 5000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TaskService taskService;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+
+    public TaskImportService(TaskService taskService, Validator validator, ObjectMapper objectMapper) {
+        this.taskService = taskService;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(TaskCreateEditRequest.class);
+    }
+
+    public TaskImportResponse importTasks(InputStream in, AuthToken author) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ImportReport report = new ImportReport();
+        List<TaskCreateEditRequest> chunk = new ArrayList<>(CHUNK_SIZE);
+        long chunkFirstLine = 0;
+        long lineNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            String error = parse(line, chunk);
+            if (error != null) {
+                report.reject(lineNumber, error);
+                continue;
+            }
+            if (chunk.size() == 1) {
+                chunkFirstLine = lineNumber;
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                load(chunk, chunkFirstLine, lineNumber, author, report);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            load(chunk, chunkFirstLine, lineNumber, author, report);
+        }
+
+        return new TaskImportResponse(report.imported, report.rejected, report.errors);
+    }
+
+    private void load(List<TaskCreateEditRequest> chunk, long firstLine, long lastLine, AuthToken author,
+                      ImportReport report) {
+        try {
+            report.imported += taskService.copyTasks(List.copyOf(chunk), author).size();
+        } catch (DataAccessException e) {
+            report.rejected += chunk.size() - 1;
+            report.reject(firstLine, "Lines " + firstLine + "-" + lastLine + " were not imported: "
+                                     + e.getMostSpecificCause().getMessage());
+        }
+        chunk.clear();
+    }
+
+    private String parse(String line, List<TaskCreateEditRequest> chunk) {
+        TaskCreateEditRequest taskRequest;
+        try {
+            taskRequest = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return "Malformed JSON: " + e.getOriginalMessage();
+        }
+        if (taskRequest == null) {
+            return "Expected a JSON object";
+        }
+
+        Set<ConstraintViolation<TaskCreateEditRequest>> violations = validator.validate(taskRequest);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        chunk.add(taskRequest);
+        return null;
+    }
+
+    private static class ImportReport {
+        private final List<LineError> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new LineError(line, message));
+            }
+        }
+    }
+}
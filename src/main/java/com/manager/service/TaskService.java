@@ -1,132 +1,541 @@
 package com.manager.service;
 
+import com.manager.cache.TaskCache;
+import com.manager.config.TaskSyncProperties;
+import com.manager.entity.OutboxEvent;
 import com.manager.entity.Priority;
 import com.manager.entity.Status;
 import com.manager.entity.Task;
+import com.manager.entity.User;
+import com.manager.event.TaskEvent;
+import com.manager.event.TaskEventPublisher;
+import com.manager.event.TaskEventType;
 import com.manager.mapper.TaskResponseMapper;
+import com.manager.model.AuthToken;
+import com.manager.model.Cursor;
+import com.manager.model.ExportFormat;
+import com.manager.model.TaskChange;
 import com.manager.model.TaskFilter;
+import com.manager.model.TaskInboxFilter;
+import com.manager.model.request.TaskBulkStatusEditRequest;
 import com.manager.model.request.TaskCreateEditRequest;
 import com.manager.model.request.TaskExecutorEditRequest;
 import com.manager.model.request.TaskStatusEditRequest;
+import com.manager.model.response.CursorResponse;
+import com.manager.model.response.TaskBulkStatusEditResponse;
 import com.manager.model.response.TaskResponse;
+import com.manager.model.response.TaskSyncResponse;
+import com.manager.querydsl.FullTextExpressions;
 import com.manager.querydsl.QPredicates;
 import com.manager.repository.TaskRepository;
+import com.manager.util.TaskExportWriter;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Objects;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static com.manager.entity.QTask.task;
+import static com.manager.entity.QTaskFilterExit.taskFilterExit;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.GONE;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TaskService {
+    private static final List<String> CURSOR_SORT_PROPERTIES = List.of("taskId", "title", "status", "priority");
+    private static final String INBOX_CURSOR_PROPERTY = "taskId";
+    private static final String SYNC_CURSOR_PROPERTY = "updatedAt";
+    private static final int BULK_UPDATE_LIMIT = 1000;
+    private static final Comparator<TaskChange> SYNC_ORDER =
+            Comparator.comparing(TaskChange::updatedAt).thenComparing(TaskChange::taskId);
+
     private final TaskRepository taskRepository;
     private final UserService userService;
     private final TaskResponseMapper taskMapper;
+    private final TaskCache taskCache;
+    private final TaskStatsService taskStatsService;
+    private final TaskExportWriter taskExportWriter;
+    private final TaskEventPublisher taskEventPublisher;
+    private final TaskSyncProperties taskSyncProperties;
+    private final OutboxService outboxService;
 
     @Transactional
-    public TaskResponse createTask(TaskCreateEditRequest taskRequest, Long authorId) {
-        Task task = Task.builder()
-                .title(taskRequest.title())
-                .description(taskRequest.description())
-                .priority(taskRequest.priority() == null
-                        ? Priority.MEDIUM
-                        : Priority.valueOf(taskRequest.priority()))
-                .author(userService.findUserById(authorId))
-                .build();
-        task = taskRepository.save(task);
+    public TaskResponse createTask(TaskCreateEditRequest taskRequest, AuthToken author) {
+        Task task = toTask(taskRequest, userService.getUserReference(author));
+        try {
+            task = taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            throw violates(e, "author_id") ? userNotFound(author.userId()) : e;
+        }
+        taskStatsService.addTasks(List.of(task.getTaskId()));
 
-        return taskMapper.map(task);
+        TaskResponse created = taskMapper.map(task);
+        publishEvent(TaskEventType.CREATED, created);
+        return created;
     }
 
     @Transactional
-    public TaskResponse editTask(TaskCreateEditRequest taskRequest, Long taskId, Long userId) {
-        Task task = getTask(taskId);
-        checkTaskEditPermission(task, userId);
+    public List<TaskResponse> createTasks(List<TaskCreateEditRequest> taskRequests, AuthToken author) {
+        User authorReference = userService.getUserReference(author);
+        List<Task> tasks = taskRequests.stream()
+                .map(taskRequest -> toTask(taskRequest, authorReference))
+                .toList();
+        try {
+            tasks = taskRepository.saveAll(tasks);
+            taskRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw violates(e, "author_id") ? userNotFound(author.userId()) : e;
+        }
+        taskStatsService.addTasks(tasks.stream().map(Task::getTaskId).toList());
 
-        task.setTitle(taskRequest.title());
-        task.setDescription(taskRequest.description());
-        task.setPriority(taskRequest.priority() == null ? task.getPriority() : Priority.valueOf(taskRequest.priority()));
-        taskRepository.save(task);
+        List<TaskResponse> created = tasks.stream()
+                .map(taskMapper::map)
+                .toList();
+        publishEvents(TaskEventType.CREATED, created);
+        return created;
+    }
 
-        return taskMapper.map(task);
+    @Transactional
+    public List<Long> copyTasks(List<TaskCreateEditRequest> taskRequests, AuthToken author) {
+        User authorReference = userService.getUserReference(author);
+        List<Task> tasks = taskRequests.stream()
+                .map(taskRequest -> toTask(taskRequest, authorReference))
+                .toList();
+        List<Long> taskIds;
+        try {
+            taskIds = taskRepository.copyTasks(tasks);
+        } catch (DataIntegrityViolationException e) {
+            throw violates(e, "author_id") ? userNotFound(author.userId()) : e;
+        }
+        taskStatsService.addTasks(taskIds);
+        publishEvents(TaskEventType.CREATED, tasks.stream().map(taskMapper::map).toList());
+
+        return taskIds;
+    }
+
+    @Transactional
+    public TaskResponse editTask(TaskCreateEditRequest taskRequest, Long taskId, Long userId) {
+        taskCache.evict(taskId);
+        taskStatsService.subtractTasks(List.of(taskId));
+
+        TaskResponse updated = taskRepository.updateTask(
+                        taskId,
+                        userId,
+                        taskRequest.title(),
+                        taskRequest.description(),
+                        taskRequest.priority() == null ? null : Priority.valueOf(taskRequest.priority()))
+                .orElseThrow(() -> editFailure(taskId,
+                        "To edit a task with id: " + taskId + " you must be its creator"));
+        taskStatsService.addTasks(List.of(taskId));
+        publishEvent(TaskEventType.UPDATED, updated);
+        return updated;
     }
 
     @Transactional
     public TaskResponse editTaskStatus(TaskStatusEditRequest statusEditRequest, Long taskId, Long userId) {
-        Task task = getTask(taskId);
-        checkTaskEditStatusPermission(task, userId);
+        taskCache.evict(taskId);
+        taskStatsService.subtractTasks(List.of(taskId));
+
+        Status status = Status.valueOf(statusEditRequest.status());
+        TaskResponse updated = taskRepository.updateTaskStatus(taskId, userId, status)
+                .orElseThrow(() -> editFailure(taskId,
+                        "To edit a task status with id: " + taskId + " you must be its creator or executor"));
+        taskStatsService.addTasks(List.of(taskId));
+        publishEvent(TaskEventType.UPDATED, updated);
+        return updated;
+    }
+
+    @Transactional
+    public TaskBulkStatusEditResponse editTasksStatus(TaskBulkStatusEditRequest statusEditRequest, Long userId) {
+        Status status = Status.valueOf(statusEditRequest.status());
+        if (statusEditRequest.taskIds() == null) {
+            var predicate = filterPredicates(statusEditRequest.filter())
+                    .add(status, task.status::ne)
+                    .add(userId, this::editableStatusBy)
+                    .build();
+            List<Long> taskIds = taskRepository.findTaskIdsForUpdate(predicate, BULK_UPDATE_LIMIT + 1);
+            boolean hasMore = taskIds.size() > BULK_UPDATE_LIMIT;
+            List<Long> updated = updateStatus(hasMore ? taskIds.subList(0, BULK_UPDATE_LIMIT) : taskIds,
+                    status, userId);
+            return new TaskBulkStatusEditResponse(updated, List.of(), List.of(), hasMore);
+        }
 
-        task.setStatus(Status.valueOf(statusEditRequest.status()));
-        taskRepository.save(task);
+        Set<Long> taskIds = new LinkedHashSet<>(statusEditRequest.taskIds());
+        if (taskIds.isEmpty()) {
+            return new TaskBulkStatusEditResponse(List.of(), List.of(), List.of(), false);
+        }
+        var predicate = QPredicates.builder()
+                .add(task.deletedAt.isNull())
+                .add(taskIds, task.taskId::in)
+                .add(userId, this::editableStatusBy)
+                .build();
+        List<Long> updated = updateStatus(taskRepository.findTaskIdsForUpdate(predicate, taskIds.size()),
+                status, userId);
+
+        updated.forEach(taskIds::remove);
+        Set<Long> existing = taskIds.isEmpty() ? Set.of() : new HashSet<>(taskRepository.findExistingTaskIds(taskIds));
+        List<Long> forbidden = taskIds.stream().filter(existing::contains).toList();
+        List<Long> notFound = taskIds.stream().filter(taskId -> !existing.contains(taskId)).toList();
 
-        return taskMapper.map(task);
+        return new TaskBulkStatusEditResponse(updated, forbidden, notFound, false);
     }
 
     @Transactional
     public TaskResponse editTaskExecutor(TaskExecutorEditRequest executorEditRequest, Long taskId, Long userId) {
-        Task task = getTask(taskId);
-        checkTaskEditPermission(task, userId);
-
-        task.setExecutor(userService.findUserById(executorEditRequest.executorId()));
-        taskRepository.save(task);
+        taskCache.evict(taskId);
+        taskStatsService.subtractTasks(List.of(taskId));
 
-        return taskMapper.map(task);
+        Optional<TaskResponse> updated;
+        try {
+            updated = taskRepository.updateTaskExecutor(taskId, userId, executorEditRequest.executorId());
+        } catch (DataIntegrityViolationException e) {
+            throw violates(e, "executor_id") ? userNotFound(executorEditRequest.executorId()) : e;
+        }
+        TaskResponse task = updated.orElseThrow(() -> editFailure(taskId,
+                "To edit a task with id: " + taskId + " you must be its creator"));
+        taskStatsService.addTasks(List.of(taskId));
+        publishEvent(TaskEventType.UPDATED, task);
+        return task;
     }
 
     @Transactional
     public void removeTask(Long taskId, Long userId) {
-        Task task = getTask(taskId);
-        checkTaskEditPermission(task, userId);
+        taskCache.evict(taskId);
+        taskStatsService.subtractTasks(List.of(taskId));
+
+        TaskResponse deleted = taskRepository.softDeleteTask(taskId, userId, Instant.now())
+                .orElseThrow(() -> editFailure(taskId,
+                        "To delete a task with id: " + taskId + " you must be its creator"));
+        publishEvent(TaskEventType.DELETED, deleted);
+    }
 
-        taskRepository.delete(task);
+    public TaskResponse findTaskById(Long taskId) {
+        return taskCache.get(taskId, id -> taskRepository.findResponseById(id)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Task with id: " + id + " not found")));
     }
 
-    public TaskResponse findTaskById(Long TaskId) {
-        return taskMapper.map(getTask(TaskId));
+    public Long findTaskVersion(Long taskId) {
+        return taskCache.getIfPresent(taskId)
+                .map(TaskResponse::version)
+                .or(() -> taskRepository.findVersionByTaskId(taskId))
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Task with id: " + taskId + " not found"));
     }
 
     public Page<TaskResponse> getAllTasks(TaskFilter filter, Pageable pageable) {
-        var predicate = QPredicates.builder()
+        var predicate = filterPredicates(filter).build();
+
+        if (filter.q() != null && !filter.q().isBlank() && pageable.getSort().isUnsorted()) {
+            return taskRepository.findAllResponsesByRank(predicate, filter.q(), pageable);
+        }
+        return taskRepository.findAllResponses(predicate, pageable);
+    }
+
+    public Slice<TaskResponse> getAllTasksSlice(TaskFilter filter, Pageable pageable) {
+        var predicate = filterPredicates(filter).build();
+
+        return taskRepository.findSliceOfResponses(predicate, pageable);
+    }
+
+    public CursorResponse<TaskResponse> getAllTasks(TaskFilter filter, String after, Pageable pageable) {
+        Sort.Order order = getCursorOrder(pageable.getSort());
+        Cursor cursor = after == null || after.isBlank() ? null : decodeCursor(after, order.getProperty());
+        var predicate = filterPredicates(filter)
+                .add(cursor, c -> afterCursor(c, order.isAscending()))
+                .build();
+        Sort sort = order.getProperty().equals("taskId")
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), "taskId"));
+        int size = pageable.getPageSize();
+
+        List<TaskResponse> tasks = taskRepository.findAllResponses(predicate, sort, size + 1);
+        boolean hasNext = tasks.size() > size;
+        List<TaskResponse> content = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = hasNext ? toCursor(content.get(size - 1), order.getProperty()).encode() : null;
+
+        return CursorResponse.of(content, nextCursor);
+    }
+
+    public void exportTasks(TaskFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponses(filterPredicates(filter).build())) {
+            taskExportWriter.write(tasks, format, out);
+        }
+    }
+
+    public CursorResponse<TaskResponse> getInbox(Long userId, TaskInboxFilter filter, String after, int size) {
+        Cursor cursor = after == null || after.isBlank() ? null : decodeCursor(after, INBOX_CURSOR_PROPERTY);
+        List<TaskResponse> tasks = taskRepository.findInbox(
+                userId,
+                filter.status() == null ? null : Status.valueOf(filter.status()),
+                cursor == null ? null : cursor.id(),
+                size + 1);
+
+        boolean hasNext = tasks.size() > size;
+        List<TaskResponse> content = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = hasNext ? toCursor(content.get(size - 1), INBOX_CURSOR_PROPERTY).encode() : null;
+
+        return CursorResponse.of(content, nextCursor);
+    }
+
+    public TaskSyncResponse syncTasks(TaskFilter filter, String after, int size) {
+        Instant now = Instant.now();
+        if (filter.updatedSince() != null
+            && filter.updatedSince().isBefore(now.minus(taskSyncProperties.getTombstoneRetention()))) {
+            throw new ResponseStatusException(GONE,
+                    "Deletions older than " + taskSyncProperties.getTombstoneRetention() + " are not kept, "
+                    + "sync again without updatedSince");
+        }
+        if (filter.updatedSince() != null && filter.q() != null && !filter.q().isBlank()) {
+            throw new ResponseStatusException(BAD_REQUEST, "Incremental sync can't be filtered by a search query");
+        }
+        Cursor cursor = after == null || after.isBlank() ? null : decodeCursor(after, SYNC_CURSOR_PROPERTY);
+        List<TaskChange> changes;
+        if (filter.updatedSince() == null) {
+            var predicate = filterPredicates(filter)
+                    .add(cursor, this::afterSyncCursor)
+                    .build();
+            changes = taskRepository.findChanges(predicate, size + 1);
+        } else {
+            var predicate = fieldPredicates(QPredicates.builder(), filter)
+                    .add(cursor, this::afterSyncCursor)
+                    .build();
+            // Deleted tasks come back as tombstones, tasks that stopped matching the filter as filter exits
+            changes = Stream.concat(
+                            taskRepository.findChanges(predicate, size + 1).stream(),
+                            taskRepository.findFilterExits(filterExitPredicate(filter, cursor), size + 1).stream())
+                    .sorted(SYNC_ORDER)
+                    .limit(size + 1)
+                    .toList();
+        }
+
+        boolean hasNext = changes.size() > size;
+        List<TaskChange> content = hasNext ? changes.subList(0, size) : changes;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskChange last = content.get(size - 1);
+            nextCursor = new Cursor(SYNC_CURSOR_PROPERTY, last.updatedAt().toString(), last.taskId()).encode();
+        }
+
+        return new TaskSyncResponse(
+                content.stream().filter(change -> !change.deleted()).map(TaskChange::task).toList(),
+                content.stream().filter(TaskChange::deleted).map(TaskChange::taskId).distinct().toList(),
+                new TaskSyncResponse.Metadata(nextCursor, now.minus(taskSyncProperties.getOverlap())));
+    }
+
+    /**
+     * Returns a reference to a task that is not deleted, holding a share lock on its row
+     * so that it cannot be soft deleted until the calling transaction ends.
+     */
+    public Task getActiveTaskReference(Long taskId) {
+        return taskRepository.lockActiveTaskId(taskId)
+                .map(taskRepository::getReferenceById)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Task with id: " + taskId + " not found"));
+    }
+
+    private Task toTask(TaskCreateEditRequest taskRequest, User author) {
+        return Task.builder()
+                .title(taskRequest.title())
+                .description(taskRequest.description())
+                .priority(taskRequest.priority() == null
+                        ? Priority.MEDIUM
+                        : Priority.valueOf(taskRequest.priority()))
+                .author(author)
+                .build();
+    }
+
+    private QPredicates filterPredicates(TaskFilter filter) {
+        return fieldPredicates(QPredicates.builder().add(task.deletedAt.isNull()), filter);
+    }
+
+    private QPredicates fieldPredicates(QPredicates predicates, TaskFilter filter) {
+        return predicates
                 .add(filter.authorId(), task.author.userId::eq)
                 .add(filter.executorId(), task.executor.userId::eq)
                 .add(filter.status() == null ? null : Status.valueOf(filter.status()), task.status::eq)
                 .add(filter.priority() == null ? null : Priority.valueOf(filter.priority()), task.priority::eq)
-                .build();
+                .add(filter.q() == null || filter.q().isBlank() ? null : filter.q(),
+                        q -> FullTextExpressions.matches(task.searchVector, q))
+                .add(filter.updatedSince(), task.updatedAt::goe);
+    }
 
-        return taskRepository.findAll(predicate, pageable)
-                .map(taskMapper::map);
+    /**
+     * Expects the ids to be locked and editable by the user, so only their counters are touched.
+     */
+    private List<Long> updateStatus(List<Long> taskIds, Status status, Long userId) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        taskStatsService.subtractTasks(taskIds);
+        List<Long> updated = taskRepository.updateStatus(taskIds, status.name(), userId);
+        taskStatsService.addTasks(taskIds);
+        publishUpdated(updated);
+        updated.forEach(taskCache::evict);
+        return updated;
     }
 
-    public Task getTask(Long taskId) {
-        return taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Task with id: " + taskId + " not found"));
+    /**
+     * Exits whose old fields matched the filter, unless the task matches it again now.
+     */
+    private Predicate filterExitPredicate(TaskFilter filter, Cursor cursor) {
+        var current = new TaskFilter(filter.authorId(), filter.executorId(), filter.status(), filter.priority(),
+                null, null);
+        return QPredicates.builder()
+                .add(filter.authorId(), taskFilterExit.authorId::eq)
+                .add(filter.executorId(), taskFilterExit.executorId::eq)
+                .add(filter.status() == null ? null : Status.valueOf(filter.status()), taskFilterExit.status::eq)
+                .add(filter.priority() == null ? null : Priority.valueOf(filter.priority()),
+                        taskFilterExit.priority::eq)
+                .add(filter.updatedSince(), taskFilterExit.exitedAt::goe)
+                .add(cursor, this::afterSyncExitCursor)
+                .add(JPAExpressions.selectOne()
+                        .from(task)
+                        .where(task.taskId.eq(taskFilterExit.taskId), filterPredicates(current).build())
+                        .notExists())
+                .build();
     }
 
-    private void checkTaskEditPermission(Task task, Long userId) {
-        if (!Objects.equals(task.getAuthor().getUserId(), userId)) {
+    private Predicate editableStatusBy(Long userId) {
+        return QPredicates.builder()
+                .add(userId, task.author.userId::eq)
+                .add(userId, task.executor.userId::eq)
+                .buildAny();
+    }
+
+    private Sort.Order getCursorOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty()) {
+            return Sort.Order.asc("taskId");
+        }
+        if (orders.size() > 1 || !CURSOR_SORT_PROPERTIES.contains(orders.get(0).getProperty())) {
             throw new ResponseStatusException(
-                    FORBIDDEN,
-                    "To edit a task with id: " + task.getTaskId() + " you must be its creator"
+                    BAD_REQUEST,
+                    "Cursor pagination supports sorting by one of: " + String.join(", ", CURSOR_SORT_PROPERTIES)
             );
         }
+        return orders.get(0);
     }
 
-    private void checkTaskEditStatusPermission(Task task, Long userId) {
-        Long executorId = task.getExecutor() == null ? null : task.getExecutor().getUserId();
-        if (!Objects.equals(task.getAuthor().getUserId(), userId) && !Objects.equals(executorId, userId)) {
-            throw new ResponseStatusException(
-                    FORBIDDEN,
-                    "To edit a task status with id: " + task.getTaskId() + " you must be its creator or executor"
-            );
+    private Cursor decodeCursor(String after, String property) {
+        Cursor cursor;
+        try {
+            cursor = Cursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, "Invalid cursor: " + after);
+        }
+        if (!cursor.property().equals(property)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Cursor was issued for sorting by " + cursor.property());
         }
+        return cursor;
+    }
+
+    private Predicate afterCursor(Cursor cursor, boolean ascending) {
+        try {
+            return switch (cursor.property()) {
+                case "title" -> afterKey(task.title, cursor.value(), cursor.id(), ascending);
+                case "status" -> afterKey(task.status, Status.valueOf(cursor.value()), cursor.id(), ascending);
+                case "priority" -> afterKey(task.priority, Priority.valueOf(cursor.value()), cursor.id(), ascending);
+                default -> ascending ? task.taskId.gt(cursor.id()) : task.taskId.lt(cursor.id());
+            };
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, "Invalid cursor value: " + cursor.value());
+        }
+    }
+
+    private Predicate afterSyncCursor(Cursor cursor) {
+        return afterKey(task.updatedAt, parseInstant(cursor), task.taskId, cursor.id(), true);
+    }
+
+    private Predicate afterSyncExitCursor(Cursor cursor) {
+        return afterKey(taskFilterExit.exitedAt, parseInstant(cursor), taskFilterExit.taskId, cursor.id(), true);
+    }
+
+    private Instant parseInstant(Cursor cursor) {
+        try {
+            return Instant.parse(cursor.value());
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(BAD_REQUEST, "Invalid cursor value: " + cursor.value());
+        }
+    }
+
+    private <T extends Comparable<?>> Predicate afterKey(ComparableExpression<T> key, T value, Long taskId, boolean ascending) {
+        return afterKey(key, value, task.taskId, taskId, ascending);
+    }
+
+    private <T extends Comparable<?>> Predicate afterKey(ComparableExpression<T> key, T value,
+                                                         NumberPath<Long> idPath, Long id, boolean ascending) {
+        // key >= value is the index range bound, the OR only refines rows that share the cursor key
+        BooleanExpression pastKey = ascending ? key.gt(value) : key.lt(value);
+        BooleanExpression pastId = ascending ? idPath.gt(id) : idPath.lt(id);
+        return (ascending ? key.goe(value) : key.loe(value)).and(pastKey.or(pastId));
+    }
+
+    private Cursor toCursor(TaskResponse lastTask, String property) {
+        String value = switch (property) {
+            case "title" -> lastTask.title();
+            case "status" -> lastTask.status().name();
+            case "priority" -> lastTask.priority().name();
+            default -> String.valueOf(lastTask.taskId());
+        };
+        return new Cursor(property, value, lastTask.taskId());
+    }
+
+    private void publishUpdated(List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            publishEvents(TaskEventType.UPDATED,
+                    taskRepository.findAllResponses(task.taskId.in(taskIds), Sort.unsorted(), taskIds.size()));
+        }
+    }
+
+    private void publishEvent(TaskEventType type, TaskResponse task) {
+        taskEventPublisher.publish(TaskEvent.of(type, task));
+        outboxService.append(OutboxEvent.TASK_AGGREGATE, type.name(), List.of(task), TaskResponse::taskId);
+    }
+
+    private void publishEvents(TaskEventType type, List<TaskResponse> tasks) {
+        taskEventPublisher.publish(tasks.stream()
+                .map(response -> TaskEvent.of(type, response))
+                .toList());
+        outboxService.append(OutboxEvent.TASK_AGGREGATE, type.name(), tasks, TaskResponse::taskId);
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String column) {
+        return e.getCause() instanceof ConstraintViolationException violation
+               && violation.getConstraintName() != null
+               && violation.getConstraintName().contains(column);
+    }
+
+    private ResponseStatusException userNotFound(Long userId) {
+        return new ResponseStatusException(NOT_FOUND, "User with id: " + userId + " not found");
+    }
+
+    private ResponseStatusException editFailure(Long taskId, String forbiddenReason) {
+        return taskRepository.existsActiveById(taskId)
+                ? new ResponseStatusException(FORBIDDEN, forbiddenReason)
+                : new ResponseStatusException(NOT_FOUND, "Task with id: " + taskId + " not found");
     }
 }
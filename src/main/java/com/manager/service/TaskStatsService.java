@@ -0,0 +1,66 @@
+package com.manager.service;
+
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import com.manager.entity.TaskRole;
+import com.manager.entity.UserTaskStats;
+import com.manager.model.response.UserTaskStatsResponse;
+import com.manager.model.response.UserTaskStatsResponse.TaskCounts;
+import com.manager.repository.UserTaskStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskStatsService {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserTaskStatsRepository statsRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTasks(List<Long> taskIds) {
+        applyTaskCounts(taskIds, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtractTasks(List<Long> taskIds) {
+        applyTaskCounts(taskIds, -1);
+    }
+
+    public UserTaskStatsResponse getUserStats(Long userId) {
+        List<UserTaskStats> stats = statsRepository.findAllByUserId(userId);
+
+        return new UserTaskStatsResponse(countTasks(stats, TaskRole.AUTHOR), countTasks(stats, TaskRole.EXECUTOR));
+    }
+
+    private void applyTaskCounts(List<Long> taskIds, int delta) {
+        for (int from = 0; from < taskIds.size(); from += CHUNK_SIZE) {
+            statsRepository.applyTaskCounts(taskIds.subList(from, Math.min(from + CHUNK_SIZE, taskIds.size())), delta);
+        }
+    }
+
+    private TaskCounts countTasks(List<UserTaskStats> stats, TaskRole role) {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        Arrays.stream(Status.values()).forEach(status -> byStatus.put(status, 0L));
+        Arrays.stream(Priority.values()).forEach(priority -> byPriority.put(priority, 0L));
+
+        long total = 0;
+        for (UserTaskStats counter : stats) {
+            if (counter.getRole() == role) {
+                total += counter.getTaskCount();
+                byStatus.merge(counter.getStatus(), counter.getTaskCount(), Long::sum);
+                byPriority.merge(counter.getPriority(), counter.getTaskCount(), Long::sum);
+            }
+        }
+        return new TaskCounts(total, byStatus, byPriority);
+    }
+}
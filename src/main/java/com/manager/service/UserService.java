@@ -2,15 +2,17 @@ package com.manager.service;
 
 import com.manager.entity.User;
 import com.manager.mapper.UserResponseMapper;
+import com.manager.model.AuthToken;
 import com.manager.model.request.AuthRequest;
 import com.manager.model.response.UserResponse;
 import com.manager.repository.UserRepository;
+import com.manager.util.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -25,9 +27,9 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final UserResponseMapper userMapper;
-    private final PasswordEncoder encoder;
+    private final PasswordHasher passwordHasher;
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createUser(AuthRequest authRequest) {
         if (userRepository.existsByEmail(authRequest.email())) {
             throw new ResponseStatusException(CONFLICT, "User with email: " + authRequest.email() + " already exists");
@@ -35,11 +37,23 @@ public class UserService implements UserDetailsService {
 
         return userMapper.map(userRepository.save(User.builder()
                 .email(authRequest.email())
-                .password(encoder.encode(authRequest.password()))
+                .password(passwordHasher.encode(authRequest.password()))
                 .build()
         ));
     }
 
+    @Transactional
+    public void upgradePassword(Long userId, String oldPassword, String newPassword) {
+        userRepository.updatePassword(userId, oldPassword, newPassword);
+    }
+
+    public User getUserReference(AuthToken authToken) {
+        return User.builder()
+                .userId(authToken.userId())
+                .email(authToken.email())
+                .build();
+    }
+
     public User findUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "User with id: " + userId + " not found"));
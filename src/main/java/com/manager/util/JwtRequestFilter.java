@@ -1,11 +1,15 @@
 package com.manager.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.manager.config.SecurityProperties;
 import com.manager.model.AuthToken;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,14 +18,53 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final Cache<String, JwtUtil.VerifiedToken> verifiedTokens;
+    private final Cache<String, Boolean> rejectedTokens;
+
+    public JwtRequestFilter(JwtUtil jwtUtil, SecurityProperties securityProperties) {
+        this.jwtUtil = jwtUtil;
+        Duration maxTtl = securityProperties.getTokenCacheTtl();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(securityProperties.getTokenCacheSize())
+                .expireAfter(new Expiry<String, JwtUtil.VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, JwtUtil.VerifiedToken token, long currentTime) {
+                        return token.expiresAt() == null
+                                ? maxTtl.toNanos()
+                                : untilExpiry(maxTtl, token.expiresAt()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, JwtUtil.VerifiedToken token,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, JwtUtil.VerifiedToken token,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(securityProperties.getTokenCacheSize())
+                .expireAfterWrite(securityProperties.getRejectedTokenCacheTtl())
+                .build();
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest req,
@@ -40,10 +83,48 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         if (tokenString == null || !tokenString.startsWith("Bearer "))
             return;
         String token = tokenString.substring("Bearer ".length());
-        AuthToken authToken = jwtUtil.readToken(token);
+        AuthToken authToken = verifyToken(token);
+        if (authToken == null)
+            return;
         Authentication authentication =
                 new UsernamePasswordAuthenticationToken(authToken, "", new ArrayList<>());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         log.debug("User {} authorized", authToken.email());
     }
+
+    private AuthToken verifyToken(String token) {
+        String digest = digest(token);
+        JwtUtil.VerifiedToken verifiedToken = verifiedTokens.getIfPresent(digest);
+        if (verifiedToken != null && (verifiedToken.expiresAt() == null || verifiedToken.expiresAt().isAfter(Instant.now()))) {
+            return verifiedToken.authToken();
+        }
+        if (rejectedTokens.getIfPresent(digest) != null) {
+            return null;
+        }
+        try {
+            verifiedToken = jwtUtil.readToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            rejectedTokens.put(digest, Boolean.TRUE);
+            log.debug("Token rejected: {}", e.getMessage());
+            return null;
+        }
+        verifiedTokens.put(digest, verifiedToken);
+        return verifiedToken.authToken();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Duration untilExpiry(Duration maxTtl, Instant expiresAt) {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative())
+            return Duration.ZERO;
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
 }
@@ -3,31 +3,38 @@ package com.manager.util;
 import com.manager.config.SecurityProperties;
 import com.manager.model.AuthToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
     private final SecurityProperties securityProperties;
+    private final Key signingKey;
+    private final JwtParser parser;
 
-    public AuthToken readToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(securityProperties.getSecret().getBytes(StandardCharsets.UTF_8))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public JwtUtil(SecurityProperties securityProperties) {
+        this.securityProperties = securityProperties;
+        this.signingKey = Keys.hmacShaKeyFor(securityProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    public VerifiedToken readToken(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
         long id = Long.parseLong(claims.getSubject());
         String username = claims.get("username", String.class);
         if (username == null)
             throw new IllegalArgumentException("username is null");
-        return new AuthToken(id, username);
+        Instant expiresAt = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+        return new VerifiedToken(new AuthToken(id, username), expiresAt);
     }
 
     public String createToken(AuthToken authToken) {
@@ -38,7 +45,13 @@ public class JwtUtil {
                         Instant.now().plus(securityProperties.getTokenTtl()))
                 )
                 .claim("username", authToken.email())
-                .signWith(Keys.hmacShaKeyFor(securityProperties.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .signWith(signingKey)
                 .compact();
     }
+
+    public record VerifiedToken(
+            AuthToken authToken,
+            Instant expiresAt
+    ) {
+    }
 }
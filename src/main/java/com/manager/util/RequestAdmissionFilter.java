@@ -0,0 +1,49 @@
+package com.manager.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+@Slf4j
+public class RequestAdmissionFilter extends OncePerRequestFilter {
+    private final Semaphore permits;
+    private final Duration admissionTimeout;
+
+    public RequestAdmissionFilter(int maxConcurrentRequests, Duration admissionTimeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.admissionTimeout = admissionTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req,
+                                    HttpServletResponse res,
+                                    FilterChain chain) throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(admissionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            log.debug("Request {} {} rejected: too many concurrent requests", req.getMethod(), req.getRequestURI());
+            res.sendError(SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.manager.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.manager.model.ExportFormat;
+import com.manager.model.response.TaskResponse;
+import com.manager.model.response.UserResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+public class TaskExportWriter {
+    private static final String CSV_HEADER =
+            "taskId,title,description,status,priority,authorId,authorEmail,executorId,executorEmail,version";
+
+    private final ObjectWriter jsonWriter;
+
+    public TaskExportWriter(ObjectMapper objectMapper) {
+        this.jsonWriter = objectMapper.writerFor(TaskResponse.class);
+    }
+
+    public void write(Stream<TaskResponse> tasks, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        Iterator<TaskResponse> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            TaskResponse task = iterator.next();
+            writer.write(format == ExportFormat.CSV ? toCsv(task) : jsonWriter.writeValueAsString(task));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private String toCsv(TaskResponse task) {
+        UserResponse author = task.author();
+        UserResponse executor = task.executor();
+        return String.join(",",
+                String.valueOf(task.taskId()),
+                csvValue(task.title()),
+                csvValue(task.description()),
+                task.status().name(),
+                task.priority().name(),
+                String.valueOf(author.userId()),
+                csvValue(author.email()),
+                executor == null ? "" : String.valueOf(executor.userId()),
+                executor == null ? "" : csvValue(executor.email()),
+                String.valueOf(task.version()));
+    }
+
+    private String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,121 @@
+package com.manager.cache;
+
+import com.manager.config.TaskCacheProperties;
+import com.manager.datasource.ReadYourWritesTracker;
+import com.manager.datasource.ReplicaDataSources;
+import com.manager.datasource.ReplicaRoutingDataSource;
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import com.manager.model.response.TaskResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskCacheTest {
+    private final static Long TASK_ID = 1L;
+    private final static TaskResponse OLD_TASK =
+            new TaskResponse(TASK_ID, "old title", null, Status.PENDING, Priority.MEDIUM, null, null, 0L);
+    private final static TaskResponse NEW_TASK =
+            new TaskResponse(TASK_ID, "new title", null, Status.PENDING, Priority.MEDIUM, null, null, 0L);
+
+    private TaskCache taskCache;
+
+    @BeforeEach
+    void setUp() {
+        TaskCacheProperties properties = new TaskCacheProperties();
+        properties.setMaximumSize(100);
+        properties.setTtl(Duration.ofMinutes(1));
+        taskCache = new TaskCache(properties, new SimpleMeterRegistry());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void get_shouldLoadTaskOnce() {
+        AtomicInteger loads = new AtomicInteger();
+
+        taskCache.get(TASK_ID, id -> {
+            loads.incrementAndGet();
+            return OLD_TASK;
+        });
+        TaskResponse cached = taskCache.get(TASK_ID, id -> {
+            loads.incrementAndGet();
+            return NEW_TASK;
+        });
+
+        assertAll("Assert cache hit",
+                () -> assertThat(cached).isEqualTo(OLD_TASK),
+                () -> assertThat(loads).hasValue(1)
+        );
+    }
+
+    @Test
+    void get_shouldBypassCache_untilWritingTransactionCompletes() {
+        taskCache.get(TASK_ID, id -> OLD_TASK);
+
+        taskCache.evict(TASK_ID);
+        TaskResponse duringWrite = taskCache.get(TASK_ID, id -> OLD_TASK);
+        TaskResponse stillDuringWrite = taskCache.get(TASK_ID, id -> NEW_TASK);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TaskResponse afterCommit = taskCache.get(TASK_ID, id -> NEW_TASK);
+        TaskResponse cachedAfterCommit = taskCache.get(TASK_ID, id -> OLD_TASK);
+
+        assertAll("Assert cache bypass",
+                () -> assertThat(duringWrite).isEqualTo(OLD_TASK),
+                () -> assertThat(stillDuringWrite).isEqualTo(NEW_TASK),
+                () -> assertThat(afterCommit).isEqualTo(NEW_TASK),
+                () -> assertThat(cachedAfterCommit).isEqualTo(NEW_TASK)
+        );
+    }
+
+    @Test
+    void get_shouldNotCacheTask_whenReadFromReplica() {
+        ReplicaDataSources replicas = mock(ReplicaDataSources.class);
+        doReturn(Map.of("replica-0", mock(DataSource.class))).when(replicas).targets();
+        when(replicas.healthy()).thenReturn(List.of("replica-0"));
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(mock(DataSource.class), replicas,
+                new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        routingDataSource.afterPropertiesSet();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        TaskResponse fromReplica = taskCache.get(TASK_ID, id -> {
+            try {
+                routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return OLD_TASK;
+        });
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertAll("Assert replica read is not cached",
+                () -> assertThat(fromReplica).isEqualTo(OLD_TASK),
+                () -> assertThat(taskCache.getIfPresent(TASK_ID)).isEmpty()
+        );
+    }
+}
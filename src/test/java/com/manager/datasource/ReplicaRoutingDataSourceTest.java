@@ -0,0 +1,103 @@
+package com.manager.datasource;
+
+import com.manager.model.AuthToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+    private final static Long USER_ID = 1L;
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private ReplicaDataSources replicas;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        when(replicas.targets()).thenReturn(Map.of());
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas,
+                new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthToken(USER_ID, "test@gmail.com"), "", List.of()));
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldSpreadReadOnlyTransactionsOverHealthyReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicas.healthy()).thenReturn(List.of("replica-0", "replica-1"));
+
+        assertThat(List.of(
+                routingDataSource.determineCurrentLookupKey(),
+                routingDataSource.determineCurrentLookupKey(),
+                routingDataSource.determineCurrentLookupKey()))
+                .containsExactly("replica-0", "replica-1", "replica-0");
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldUsePrimary_whenNoReplicaIsCaughtUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicas.healthy()).thenReturn(List.of());
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldReadFromPrimary_afterUserCommittedWrite() {
+        Object writeKey = routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object readKey = routingDataSource.determineCurrentLookupKey();
+
+        assertAll(
+                () -> assertThat(writeKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY),
+                () -> assertThat(readKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY)
+        );
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldMarkTransactionOnReplica_untilItCompletes() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicas.healthy()).thenReturn(List.of("replica-0"));
+
+        routingDataSource.determineCurrentLookupKey();
+        boolean onReplica = ReplicaRoutingDataSource.isCurrentTransactionOnReplica();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertAll(
+                () -> assertThat(onReplica).isTrue(),
+                () -> assertThat(ReplicaRoutingDataSource.isCurrentTransactionOnReplica()).isFalse()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.manager.event;
+
+import com.manager.config.TaskEventProperties;
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import com.manager.model.TaskFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TaskEventBroadcasterTest {
+    private final static int QUEUE_CAPACITY = 4;
+    private final static TaskFilter ANY_TASK = new TaskFilter(null, null, null, null, null, null);
+
+    private TaskEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        TaskEventProperties properties = new TaskEventProperties();
+        properties.setEmitterTimeout(Duration.ofMinutes(1));
+        properties.setHeartbeatInterval(Duration.ofHours(1));
+        properties.setPollTimeout(Duration.ofSeconds(1));
+        properties.setReconnectDelay(Duration.ofSeconds(1));
+        properties.setSenderThreads(2);
+        properties.setSubscriberQueueCapacity(QUEUE_CAPACITY);
+        broadcaster = new TaskEventBroadcaster(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void broadcast_shouldNotWaitForStalledSubscriber_andDropItOnOverflow() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(release);
+        CountingEmitter fast = new CountingEmitter();
+        broadcaster.subscribe(ANY_TASK, stalled);
+        broadcaster.subscribe(ANY_TASK, fast);
+
+        boolean fastSubscriberServed = fast.delivered.tryAcquire(5, TimeUnit.SECONDS);
+        for (long version = 0; version < QUEUE_CAPACITY * 2 && fastSubscriberServed; version++) {
+            broadcaster.broadcast(new TaskEvent(TaskEventType.UPDATED, 1L, Status.PENDING, Priority.LOW,
+                    1L, null, version));
+            fastSubscriberServed = fast.delivered.tryAcquire(5, TimeUnit.SECONDS);
+        }
+        release.countDown();
+
+        boolean served = fastSubscriberServed;
+        assertAll(
+                () -> assertThat(served).isTrue(),
+                () -> assertThat(stalled.completed).isTrue()
+        );
+    }
+
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.set(true);
+        }
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        private final Semaphore delivered = new Semaphore(0);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            delivered.release();
+        }
+    }
+}
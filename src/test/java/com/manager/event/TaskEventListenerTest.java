@@ -0,0 +1,84 @@
+package com.manager.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.cache.TaskCache;
+import com.manager.config.TaskEventProperties;
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventListenerTest {
+    private final static TaskEvent EVENT =
+            new TaskEvent(TaskEventType.UPDATED, 1L, Status.PENDING, Priority.LOW, 1L, null, 2L);
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Statement statement;
+    @Mock
+    private PGConnection pgConnection;
+    @Mock
+    private PGNotification notification;
+    @Mock
+    private TaskEventBroadcaster broadcaster;
+    @Mock
+    private TaskCache taskCache;
+
+    private TaskEventListener listener;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        TaskEventProperties properties = new TaskEventProperties();
+        properties.setPollTimeout(Duration.ofMillis(10));
+        properties.setReconnectDelay(Duration.ofMillis(10));
+        listener = new TaskEventListener(dataSource, broadcaster, taskCache, objectMapper, properties);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(notification.getParameter()).thenReturn(objectMapper.writeValueAsString(List.of(EVENT)));
+        when(pgConnection.getNotifications(anyInt()))
+                .thenReturn(new PGNotification[]{notification})
+                .thenReturn(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void listen_shouldEvictChangedTaskFromCache_beforeBroadcastingIt() {
+        listener.start();
+
+        verify(broadcaster, timeout(5000)).broadcast(EVENT);
+        InOrder inOrder = inOrder(taskCache, broadcaster);
+        inOrder.verify(taskCache).invalidateAll();
+        inOrder.verify(taskCache).invalidate(EVENT.taskId());
+        inOrder.verify(broadcaster).broadcast(EVENT);
+    }
+}
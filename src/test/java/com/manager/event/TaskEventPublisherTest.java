@@ -0,0 +1,93 @@
+package com.manager.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventPublisherTest {
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private Session session;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+
+    private TaskEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new TaskEventPublisher(entityManager, new ObjectMapper());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void publish_shouldNotifyOnlyBeforeCommit_inPayloadsUnderPostgresLimit() throws Exception {
+        List<TaskEvent> events = LongStream.rangeClosed(1, 200)
+                .mapToObj(id -> new TaskEvent(TaskEventType.UPDATED, id, Status.PENDING, Priority.LOW, 1L, 2L, 3L))
+                .toList();
+
+        publisher.publish(events.subList(0, 100));
+        publisher.publish(events.subList(100, 200));
+        verify(entityManager, never()).unwrap(Session.class);
+
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(connection.prepareStatement("SELECT pg_notify(?, ?)")).thenReturn(statement);
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+        ArgumentCaptor<Work> work = ArgumentCaptor.forClass(Work.class);
+        verify(session).doWork(work.capture());
+        work.getValue().execute(connection);
+
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeast(2)).setString(eq(2), payloads.capture());
+        List<TaskEvent> notified = payloads.getAllValues().stream()
+                .flatMap(payload -> readEvents(payload).stream())
+                .toList();
+        assertThat(payloads.getAllValues()).allSatisfy(payload -> assertThat(payload.length()).isLessThan(8000));
+        assertThat(notified).isEqualTo(events);
+        verify(statement, atLeast(2)).setString(1, TaskEventPublisher.CHANNEL);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(TransactionSynchronizationManager.hasResource(publisher)).isFalse();
+    }
+
+    private List<TaskEvent> readEvents(String payload) {
+        try {
+            return new ObjectMapper().readerForListOf(TaskEvent.class).readValue(payload);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
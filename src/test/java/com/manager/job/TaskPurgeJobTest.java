@@ -0,0 +1,64 @@
+package com.manager.job;
+
+import com.manager.config.TaskPurgeProperties;
+import com.manager.config.TaskSyncProperties;
+import com.manager.repository.CommentRepository;
+import com.manager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPurgeJobTest {
+    private final static int BATCH_SIZE = 2;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    private TaskPurgeJob taskPurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        TaskPurgeProperties properties = new TaskPurgeProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setInterval(Duration.ofSeconds(10));
+        properties.setPause(Duration.ZERO);
+        TaskSyncProperties syncProperties = new TaskSyncProperties();
+        syncProperties.setTombstoneRetention(Duration.ofDays(30));
+        syncProperties.setOverlap(Duration.ofMinutes(1));
+        taskPurgeJob = new TaskPurgeJob(taskRepository, commentRepository, properties, syncProperties);
+    }
+
+    @Test
+    void purgeDeletedTasks_shouldDeleteCommentsBeforeTasksInBatches() {
+        when(commentRepository.deleteCommentsOfDeletedTasks(BATCH_SIZE))
+                .thenReturn(2, 2, 1);
+        when(taskRepository.deletePurgeableTasks(eq(BATCH_SIZE), any(Instant.class)))
+                .thenReturn(1);
+
+        taskPurgeJob.purgeDeletedTasks();
+
+        assertAll(
+                () -> verify(commentRepository, times(3)).deleteCommentsOfDeletedTasks(BATCH_SIZE),
+                () -> verify(taskRepository, times(1)).deletePurgeableTasks(
+                        eq(BATCH_SIZE), argThat(deletedBefore -> deletedBefore.isBefore(Instant.now().minus(Duration.ofDays(29))))),
+                () -> verify(taskRepository, times(1)).deleteExpiredFilterExits(
+                        eq(BATCH_SIZE), argThat(exitedBefore -> exitedBefore.isBefore(Instant.now().minus(Duration.ofDays(29)))))
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.manager.job;
+
+import com.manager.config.TaskStatsProperties;
+import com.manager.repository.UserRepository;
+import com.manager.repository.UserTaskStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsReconciliationJobTest {
+    private final static int BATCH_SIZE = 10;
+
+    @Mock
+    private UserTaskStatsRepository statsRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private TaskStatsReconciliationJob reconciliationJob;
+
+    @BeforeEach
+    void setUp() {
+        TaskStatsProperties properties = new TaskStatsProperties();
+        properties.setReconciliationBatchSize(BATCH_SIZE);
+        properties.setReconciliationInterval(Duration.ofHours(1));
+        reconciliationJob = new TaskStatsReconciliationJob(statsRepository, userRepository, properties);
+    }
+
+    @Test
+    void reconcileTaskStats_shouldCoverAllUsersInBatches_andSkipConflictingBatch() {
+        when(userRepository.findMaxUserId()).thenReturn(Optional.of(25L));
+        when(statsRepository.reconcile(anyLong(), anyLong())).thenReturn(0L);
+        when(statsRepository.reconcile(10, 20)).thenThrow(new CannotAcquireLockException("serialization failure"));
+
+        reconciliationJob.reconcileTaskStats();
+
+        assertAll(
+                () -> verify(statsRepository).reconcile(0, 10),
+                () -> verify(statsRepository).reconcile(10, 20),
+                () -> verify(statsRepository).reconcile(20, 30),
+                () -> verify(statsRepository, times(3)).reconcile(anyLong(), anyLong())
+        );
+    }
+}
@@ -29,7 +29,7 @@ class TaskResponseMapperTest {
         String taskDescription = "description";
         Status taskStatus = Status.PENDING;
         Priority taskPriority = Priority.MEDIUM;
-        Task task = new Task(taskId, taskTitle, taskDescription, taskStatus, taskPriority, null, null);
+        Task task = new Task(taskId, taskTitle, taskDescription, taskStatus, taskPriority, null, null, 0L, null, null, null);
         when(userMapper.map(any()))
                 .thenReturn(null);
 
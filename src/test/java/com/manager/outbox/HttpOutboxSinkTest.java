@@ -0,0 +1,83 @@
+package com.manager.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.manager.config.OutboxProperties;
+import com.manager.entity.OutboxEvent;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HttpOutboxSinkTest {
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(204);
+
+    private HttpServer server;
+    private HttpOutboxSink sink;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                received.add(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        server.start();
+
+        OutboxProperties properties = new OutboxProperties();
+        properties.setSink(OutboxProperties.SinkType.HTTP);
+        properties.setUrl(URI.create("http://localhost:" + server.getAddress().getPort() + "/events"));
+        properties.setTimeout(Duration.ofSeconds(5));
+        sink = new HttpOutboxSink(new ObjectMapper().registerModule(new JavaTimeModule()), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void send_shouldPostEventsAsNdjson() throws IOException {
+        sink.send(List.of(event(1L), event(2L)));
+
+        assertAll(
+                () -> assertThat(received).hasSize(1),
+                () -> assertThat(received.get(0).lines().toList()).hasSize(2),
+                () -> assertThat(received.get(0)).startsWith("{\"eventId\":1,")
+        );
+    }
+
+    @Test
+    void send_shouldFail_whenStubRejectsEvents() {
+        responseStatus.set(503);
+
+        assertThrows(IOException.class, () -> sink.send(List.of(event(1L))));
+    }
+
+    private OutboxEvent event(Long eventId) {
+        return OutboxEvent.builder()
+                .eventId(eventId)
+                .aggregateType(OutboxEvent.TASK_AGGREGATE)
+                .aggregateId(eventId)
+                .eventType("CREATED")
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.manager.querydsl;
+
+import com.querydsl.core.types.dsl.Expressions;
+import org.junit.jupiter.api.Test;
+
+import static com.manager.entity.QTask.task;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class QPredicatesTest {
+    @Test
+    void build_shouldMatchEverything_whenNoPredicatesAdded() {
+        assertThat(QPredicates.builder().add((Long) null, task.taskId::eq).build())
+                .isEqualTo(Expressions.asBoolean(true).isTrue());
+    }
+
+    @Test
+    void buildAny_shouldMatchNothing_whenNoPredicatesAdded() {
+        assertAll(
+                () -> assertThat(QPredicates.builder().add((Long) null, task.author.userId::eq).buildAny())
+                        .isEqualTo(Expressions.asBoolean(true).isFalse()),
+                () -> assertThat(QPredicates.builder().add(1L, task.author.userId::eq).buildAny())
+                        .isEqualTo(task.author.userId.eq(1L))
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.manager.repository;
+
+import com.manager.mapper.CommentResponseMapper;
+import com.manager.mapper.UserResponseMapper;
+import com.manager.model.CommentFilter;
+import com.manager.model.response.CommentResponse;
+import com.manager.service.CommentService;
+import com.manager.service.OutboxService;
+import com.manager.service.TaskService;
+import com.manager.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({CommentService.class, CommentResponseMapper.class, UserResponseMapper.class})
+@Sql("/sql/comments.sql")
+public class CommentRepositoryTest {
+    private final static Long TASK_ID = 1L;
+    private final static Long DELETED_TASK_ID = 2L;
+
+    @MockBean
+    private TaskService taskService;
+    @MockBean
+    private UserService userService;
+    @MockBean
+    private OutboxService outboxService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void getAllTaskComments_shouldLoadPageWithAuthorsInConstantNumberOfStatements() {
+        Page<CommentResponse> page = commentService.getAllTaskComments(
+                TASK_ID,
+                new CommentFilter(null),
+                PageRequest.of(0, 3)
+        );
+
+        assertAll("Assert comment page",
+                () -> assertThat(page.getContent()).hasSize(3),
+                () -> assertThat(page.getTotalElements()).isEqualTo(5),
+                () -> assertThat(page.getContent())
+                        .extracting(comment -> comment.author().email())
+                        .containsExactly("first@gmail.com", "second@gmail.com", "third@gmail.com"),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    public void getAllTaskCommentsSlice_shouldLoadPageWithoutCountStatement() {
+        Slice<CommentResponse> slice = commentService.getAllTaskCommentsSlice(
+                TASK_ID,
+                new CommentFilter(null),
+                PageRequest.of(1, 2)
+        );
+
+        assertAll("Assert comment slice",
+                () -> assertThat(slice.getContent())
+                        .extracting(CommentResponse::commentId)
+                        .containsExactly(3L, 4L),
+                () -> assertThat(slice.hasNext()).isTrue(),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    public void getAllTaskComments_shouldHideCommentsOfDeletedTask() {
+        Page<CommentResponse> page = commentService.getAllTaskComments(
+                DELETED_TASK_ID,
+                new CommentFilter(null),
+                PageRequest.of(0, 3)
+        );
+
+        assertAll("Assert comment page",
+                () -> assertThat(page.getContent()).isEmpty(),
+                () -> assertThat(page.getTotalElements()).isZero()
+        );
+    }
+}
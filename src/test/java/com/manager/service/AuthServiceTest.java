@@ -5,12 +5,12 @@ import com.manager.model.AuthToken;
 import com.manager.model.request.AuthRequest;
 import com.manager.model.response.AuthResponse;
 import com.manager.util.JwtUtil;
+import com.manager.util.PasswordHasher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,7 +26,7 @@ public class AuthServiceTest {
     @Mock
     private UserService userService;
     @Mock
-    private PasswordEncoder encoder;
+    private PasswordHasher passwordHasher;
     @InjectMocks
     private AuthService authService;
 
@@ -39,7 +39,7 @@ public class AuthServiceTest {
 
         when(userService.findUserByEmail(authRequest.email()))
                 .thenReturn(user);
-        when(encoder.matches(authRequest.password(), user.getPassword()))
+        when(passwordHasher.matches(authRequest.password(), user.getPassword()))
                 .thenReturn(true);
         when(jwtUtil.createToken(expectedAuthToken))
                 .thenReturn(expectedJwtToken);
@@ -54,6 +54,25 @@ public class AuthServiceTest {
         );
     }
 
+    @Test
+    public void authenticate_shouldUpgradeOutdatedPasswordHash() {
+        AuthRequest authRequest = new AuthRequest(USER_EMAIL, "password");
+        User user = new User(USER_ID, USER_EMAIL, "weakEncodedPassword");
+
+        when(userService.findUserByEmail(authRequest.email()))
+                .thenReturn(user);
+        when(passwordHasher.matches(authRequest.password(), user.getPassword()))
+                .thenReturn(true);
+        when(passwordHasher.upgradeEncoding(user.getPassword()))
+                .thenReturn(true);
+        when(passwordHasher.encode(authRequest.password()))
+                .thenReturn("strongEncodedPassword");
+
+        authService.authenticate(authRequest);
+
+        verify(userService, times(1)).upgradePassword(USER_ID, "weakEncodedPassword", "strongEncodedPassword");
+    }
+
     @Test
     public void authenticate_shouldReturnExceptionWithInvalidPassword() {
         AuthRequest authRequest = new AuthRequest(USER_EMAIL, "invalidPassword");
@@ -61,13 +80,13 @@ public class AuthServiceTest {
 
         when(userService.findUserByEmail(authRequest.email()))
                 .thenReturn(user);
-        when(encoder.matches(authRequest.password(), user.getPassword()))
+        when(passwordHasher.matches(authRequest.password(), user.getPassword()))
                 .thenReturn(false);
 
         assertThrows(ResponseStatusException.class, () -> authService.authenticate(authRequest));
 
         verify(userService, times(1)).findUserByEmail(authRequest.email());
-        verify(encoder, times(1)).matches(authRequest.password(), user.getPassword());
+        verify(passwordHasher, times(1)).matches(authRequest.password(), user.getPassword());
         verify(jwtUtil, never()).createToken(any());
     }
 
@@ -81,7 +100,7 @@ public class AuthServiceTest {
         assertThrows(ResponseStatusException.class, () -> authService.authenticate(authRequest));
 
         verify(userService, times(1)).findUserByEmail(authRequest.email());
-        verify(encoder, never()).matches(any(), any());
+        verify(passwordHasher, never()).matches(any(), any());
         verify(jwtUtil, never()).createToken(any());
     }
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package com.manager.service;
 
 import com.manager.entity.Comment;
+import com.manager.entity.OutboxEvent;
 import com.manager.entity.Task;
 import com.manager.entity.User;
+import com.manager.event.TaskEventType;
 import com.manager.mapper.CommentResponseMapper;
+import com.manager.model.AuthToken;
 import com.manager.model.CommentFilter;
+import com.manager.model.CommentSearchFilter;
+import com.manager.model.Cursor;
 import com.manager.model.request.CommentCreateRequest;
 import com.manager.model.response.CommentResponse;
+import com.manager.model.response.CursorResponse;
 import com.manager.model.response.UserResponse;
 import com.manager.repository.CommentRepository;
 import com.querydsl.core.types.Predicate;
@@ -14,17 +20,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentServiceTest {
@@ -33,6 +47,7 @@ public class CommentServiceTest {
     private final static String USER_EMAIL = "test@gmail.com";
     private final static Long COMMENT_ID = 1L;
     private final static String COMMENT_TEXT = "some text";
+    private final static AuthToken AUTH_TOKEN = new AuthToken(USER_ID, USER_EMAIL);
 
     @Mock
     private CommentRepository commentRepository;
@@ -42,6 +57,8 @@ public class CommentServiceTest {
     private UserService userService;
     @Mock
     private CommentResponseMapper commentMapper;
+    @Mock
+    private OutboxService outboxService;
     @InjectMocks
     private CommentService commentService;
 
@@ -54,40 +71,76 @@ public class CommentServiceTest {
         CommentCreateRequest commentRequest = new CommentCreateRequest(COMMENT_TEXT);
         CommentResponse expectedResponse = new CommentResponse(COMMENT_ID, COMMENT_TEXT, task.getTaskId(), userResponse);
 
-        when(taskService.getTask(TASK_ID))
+        when(taskService.getActiveTaskReference(TASK_ID))
                 .thenReturn(task);
-        when(userService.findUserById(USER_ID))
+        when(userService.getUserReference(AUTH_TOKEN))
                 .thenReturn(user);
         when(commentMapper.map(comment))
                 .thenReturn(expectedResponse);
         when(commentRepository.save(any())).thenReturn(comment);
 
-        CommentResponse commentResponse = commentService.addComment(TASK_ID, commentRequest, USER_ID);
+        CommentResponse commentResponse = commentService.addComment(TASK_ID, commentRequest, AUTH_TOKEN);
 
         assertAll("Assert commentResponse",
                 () -> assertThat(commentResponse).isNotNull(),
                 () -> assertThat(commentResponse.commentId()).isEqualTo(COMMENT_ID),
                 () -> assertThat(commentResponse.text()).isEqualTo(COMMENT_TEXT),
                 () -> assertThat(commentResponse.taskId()).isEqualTo(TASK_ID),
-                () -> assertThat(commentResponse.author()).isEqualTo(userResponse)
+                () -> assertThat(commentResponse.author()).isEqualTo(userResponse),
+                () -> verify(outboxService).append(eq(OutboxEvent.COMMENT_AGGREGATE), eq(TaskEventType.CREATED.name()),
+                        eq(List.of(expectedResponse)), any())
         );
     }
 
     @Test
-    public void getAllTaskComments_shouldReturnAllComments() {
+    public void addComment_shouldThrowException_whenTaskDoesNotExist() {
         Task task = Task.builder().taskId(TASK_ID).build();
-        User user = User.builder().userId(USER_ID).build();
+        User user = User.builder().userId(USER_ID).email(USER_EMAIL).build();
+        CommentCreateRequest commentRequest = new CommentCreateRequest(COMMENT_TEXT);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("fk violation",
+                new ConstraintViolationException("fk violation", null, "comment_task_id_fkey"));
+
+        when(taskService.getActiveTaskReference(TASK_ID))
+                .thenReturn(task);
+        when(userService.getUserReference(AUTH_TOKEN))
+                .thenReturn(user);
+        when(commentRepository.save(any())).thenThrow(violation);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> commentService.addComment(TASK_ID, commentRequest, AUTH_TOKEN));
+
+        assertAll("Assert exception",
+                () -> assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND),
+                () -> assertThat(exception.getReason()).isEqualTo("Task with id: " + TASK_ID + " not found")
+        );
+    }
+
+    @Test
+    public void addComment_shouldThrowException_whenTaskIsDeleted() {
+        CommentCreateRequest commentRequest = new CommentCreateRequest(COMMENT_TEXT);
+
+        when(taskService.getActiveTaskReference(TASK_ID))
+                .thenThrow(new ResponseStatusException(NOT_FOUND, "Task with id: " + TASK_ID + " not found"));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> commentService.addComment(TASK_ID, commentRequest, AUTH_TOKEN));
+
+        assertAll("Assert exception",
+                () -> assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND),
+                () -> verifyNoInteractions(commentRepository, outboxService)
+        );
+    }
+
+    @Test
+    public void getAllTaskComments_shouldReturnAllComments() {
         UserResponse userResponse = new UserResponse(USER_ID, USER_EMAIL);
-        Comment comment = new Comment(COMMENT_ID, COMMENT_TEXT, task, user);
-        CommentResponse expectedResponse = new CommentResponse(COMMENT_ID, COMMENT_TEXT, task.getTaskId(), userResponse);
+        CommentResponse expectedResponse = new CommentResponse(COMMENT_ID, COMMENT_TEXT, TASK_ID, userResponse);
         CommentFilter filter = new CommentFilter(null);
         Pageable pageable = Pageable.ofSize(10);
-        Page<Comment> commentsPage = new PageImpl<>(List.of(comment));
+        Page<CommentResponse> commentsPage = new PageImpl<>(List.of(expectedResponse));
 
-        when(commentRepository.findAll(any(Predicate.class), any(Pageable.class)))
+        when(commentRepository.findAllResponses(any(Predicate.class), any(Pageable.class)))
                 .thenReturn(commentsPage);
-        when(commentMapper.map(any()))
-                .thenReturn(expectedResponse);
 
         Page<CommentResponse> actualPage = commentService.getAllTaskComments(TASK_ID, filter, pageable);
 
@@ -101,4 +154,37 @@ public class CommentServiceTest {
                 () -> assertThat(actualPage.getContent().get(0).author()).isEqualTo(expectedResponse.author())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void searchComments_shouldReturnNextCursor_whenMoreCommentsExist() {
+        UserResponse userResponse = new UserResponse(USER_ID, USER_EMAIL);
+        CommentResponse first = new CommentResponse(COMMENT_ID, COMMENT_TEXT, TASK_ID, userResponse);
+        CommentResponse second = new CommentResponse(COMMENT_ID + 1, COMMENT_TEXT, TASK_ID, userResponse);
+        CommentSearchFilter filter = new CommentSearchFilter("text", null, null);
+
+        when(commentRepository.findAllResponses(any(Predicate.class), eq(2)))
+                .thenReturn(List.of(first, second));
+
+        CursorResponse<CommentResponse> response = commentService.searchComments(TASK_ID, filter, null, 1);
+
+        assertAll("Assert response",
+                () -> assertThat(response.content()).containsExactly(first),
+                () -> assertThat(response.metadata().size()).isEqualTo(1),
+                () -> assertThat(Cursor.decode(response.metadata().nextCursor()).id()).isEqualTo(COMMENT_ID)
+        );
+    }
+
+    @Test
+    public void searchComments_shouldThrowException_whenCursorIsInvalid() {
+        CommentSearchFilter filter = new CommentSearchFilter("text", null, true);
+        String taskCursor = new Cursor("title", "some title", TASK_ID).encode();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> commentService.searchComments(null, filter, taskCursor, 10));
+
+        assertAll("Assert exception",
+                () -> assertThat(exception.getStatusCode()).isEqualTo(BAD_REQUEST),
+                () -> verifyNoInteractions(commentRepository)
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.entity.OutboxEvent;
+import com.manager.outbox.OutboxSink;
+import com.manager.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+    private final static int BATCH_SIZE = 100;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private OutboxSink outboxSink;
+
+    private MeterRegistry registry;
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        outboxService = new OutboxService(outboxEventRepository, outboxSink, new ObjectMapper(), registry);
+    }
+
+    @Test
+    void relayBatch_shouldSendClaimedEvents_thenDeleteThem() throws IOException {
+        List<OutboxEvent> events = List.of(event(1L), event(2L));
+        when(outboxEventRepository.claimBatch(BATCH_SIZE)).thenReturn(events);
+
+        int relayed = outboxService.relayBatch(BATCH_SIZE);
+
+        assertAll(
+                () -> assertThat(relayed).isEqualTo(2),
+                () -> verify(outboxSink).send(events),
+                () -> verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L)),
+                () -> assertThat(registry.get("outbox.relay.lag").timer().count()).isEqualTo(2),
+                () -> assertThat(registry.get("outbox.relay.batch.size").summary().totalAmount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void relayBatch_shouldKeepEvents_whenSinkFails() throws IOException {
+        List<OutboxEvent> events = List.of(event(1L));
+        when(outboxEventRepository.claimBatch(BATCH_SIZE)).thenReturn(events);
+        doThrow(new IOException("connection refused")).when(outboxSink).send(events);
+
+        assertThrows(UncheckedIOException.class, () -> outboxService.relayBatch(BATCH_SIZE));
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private OutboxEvent event(Long eventId) {
+        return OutboxEvent.builder()
+                .eventId(eventId)
+                .aggregateType(OutboxEvent.TASK_AGGREGATE)
+                .aggregateId(eventId)
+                .eventType("CREATED")
+                .createdAt(Instant.now().minusSeconds(1))
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.model.AuthToken;
+import com.manager.model.request.TaskCreateEditRequest;
+import com.manager.model.response.TaskImportResponse;
+import com.manager.model.response.TaskImportResponse.LineError;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceTest {
+    private final static AuthToken AUTH_TOKEN = new AuthToken(1L, "test@gmail.com");
+
+    @Mock
+    private TaskService taskService;
+
+    private TaskImportService taskImportService;
+
+    @BeforeEach
+    void setUp() {
+        taskImportService = new TaskImportService(taskService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+    }
+
+    @Test
+    public void importTasks_shouldCopyValidLines_andReportInvalidOnes() throws IOException {
+        String ndjson = """
+                {"title": "First", "priority": "HIGH"}
+                {"title": "Second", "priority": "URGENT"}
+
+                {"title": " "}
+                {"title": "Third"
+                {"title": "Fourth", "description": "text"}
+                """;
+        List<TaskCreateEditRequest> valid = List.of(
+                new TaskCreateEditRequest("First", null, "HIGH"),
+                new TaskCreateEditRequest("Fourth", "text", null)
+        );
+
+        when(taskService.copyTasks(valid, AUTH_TOKEN)).thenReturn(List.of(1L, 2L));
+
+        TaskImportResponse response = taskImportService.importTasks(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), AUTH_TOKEN);
+
+        assertAll("Assert import response",
+                () -> assertThat(response.imported()).isEqualTo(2),
+                () -> assertThat(response.rejected()).isEqualTo(3),
+                () -> assertThat(response.errors()).extracting(LineError::line).containsExactly(2L, 4L, 5L),
+                () -> assertThat(response.errors().get(0).message())
+                        .isEqualTo("Priority must be any of: LOW, MEDIUM, HIGH"),
+                () -> assertThat(response.errors().get(1).message()).isEqualTo("Title may not be blank"),
+                () -> assertThat(response.errors().get(2).message()).startsWith("Malformed JSON")
+        );
+    }
+
+    @Test
+    public void importTasks_shouldReportRejectedChunk_andKeepImportingTheRest() throws IOException {
+        StringBuilder ndjson = new StringBuilder("{\"title\": \"Nul \\u0000 title\"}\n");
+        for (int i = 0; i < 5001; i++) {
+            ndjson.append("{\"title\": \"Task ").append(i).append("\"}\n");
+        }
+
+        when(taskService.copyTasks(anyList(), eq(AUTH_TOKEN)))
+                .thenThrow(new DataIntegrityViolationException("check constraint violated"))
+                .thenReturn(List.of(5001L));
+
+        TaskImportResponse response = taskImportService.importTasks(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), AUTH_TOKEN);
+
+        assertAll("Assert import response",
+                () -> assertThat(response.imported()).isEqualTo(1),
+                () -> assertThat(response.rejected()).isEqualTo(5001),
+                () -> assertThat(response.errors()).extracting(LineError::line).containsExactly(1L, 2L),
+                () -> assertThat(response.errors().get(0).message())
+                        .isEqualTo("Title may not contain NUL characters"),
+                () -> assertThat(response.errors().get(1).message())
+                        .isEqualTo("Lines 2-5001 were not imported: check constraint violated")
+        );
+    }
+}
@@ -1,36 +1,68 @@
 package com.manager.service;
 
+import com.manager.cache.TaskCache;
+import com.manager.config.TaskSyncProperties;
+import com.manager.entity.OutboxEvent;
 import com.manager.entity.Priority;
 import com.manager.entity.Status;
 import com.manager.entity.Task;
 import com.manager.entity.User;
+import com.manager.event.TaskEvent;
+import com.manager.event.TaskEventPublisher;
+import com.manager.event.TaskEventType;
 import com.manager.mapper.TaskResponseMapper;
+import com.manager.model.AuthToken;
+import com.manager.model.Cursor;
+import com.manager.model.TaskChange;
 import com.manager.model.TaskFilter;
+import com.manager.model.TaskInboxFilter;
+import com.manager.model.request.TaskBulkStatusEditRequest;
 import com.manager.model.request.TaskCreateEditRequest;
 import com.manager.model.request.TaskExecutorEditRequest;
 import com.manager.model.request.TaskStatusEditRequest;
+import com.manager.model.response.CursorResponse;
+import com.manager.model.response.TaskBulkStatusEditResponse;
 import com.manager.model.response.TaskResponse;
+import com.manager.model.response.TaskSyncResponse;
 import com.manager.model.response.UserResponse;
 import com.manager.repository.TaskRepository;
+import com.manager.util.TaskExportWriter;
 import com.querydsl.core.types.Predicate;
-import com.querydsl.core.types.dsl.Expressions;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
+import static com.manager.entity.QTask.task;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.GONE;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceTest {
@@ -41,12 +73,25 @@ public class TaskServiceTest {
     private final static String TASK_TITLE = "Test title";
     private final static String TASK_DESCRIPTION = "Test description";
     private final static Status DEFAULT_TASK_STATUS = Status.PENDING;
+    private final static AuthToken AUTH_TOKEN = new AuthToken(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
     @Mock
     private TaskRepository taskRepository;
     @Mock
     private UserService userService;
     @Mock
     private TaskResponseMapper taskMapper;
+    @Mock
+    private TaskCache taskCache;
+    @Mock
+    private TaskStatsService taskStatsService;
+    @Mock
+    private TaskExportWriter taskExportWriter;
+    @Mock
+    private TaskEventPublisher taskEventPublisher;
+    @Mock
+    private OutboxService outboxService;
+    @Spy
+    private TaskSyncProperties taskSyncProperties = syncProperties();
     @InjectMocks
     private TaskService taskService;
 
@@ -69,17 +114,21 @@ public class TaskServiceTest {
                 DEFAULT_TASK_STATUS,
                 priority,
                 authorUserResponse,
-                null
+                null,
+                0L
         );
 
-        when(userService.findUserById(TASK_AUTHOR_ID))
+        when(userService.getUserReference(AUTH_TOKEN))
                 .thenReturn(author);
-        when(taskRepository.save(task))
-                .thenReturn(task);
+        when(taskRepository.saveAndFlush(task))
+                .thenAnswer(invocation -> {
+                    task.setTaskId(TASK_ID);
+                    return task;
+                });
         when(taskMapper.map(task))
                 .thenReturn(expectedResponse);
 
-        TaskResponse actualResponse = taskService.createTask(taskRequest, TASK_AUTHOR_ID);
+        TaskResponse actualResponse = taskService.createTask(taskRequest, AUTH_TOKEN);
 
         assertAll("Assert taskResponse",
                 () -> assertThat(actualResponse).isNotNull(),
@@ -91,38 +140,121 @@ public class TaskServiceTest {
                 () -> assertThat(actualResponse.status()).isEqualTo(DEFAULT_TASK_STATUS),
                 () -> assertThat(actualResponse.executor()).isNull()
         );
+        verify(taskStatsService).addTasks(List.of(TASK_ID));
+    }
+
+    @Test
+    public void createTask_shouldThrowException_whenAuthorDoesNotExist() {
+        TaskCreateEditRequest taskRequest = new TaskCreateEditRequest(TASK_TITLE, TASK_DESCRIPTION, null);
+        User author = User.builder().userId(TASK_AUTHOR_ID).email(TASK_AUTHOR_EMAIL).build();
+
+        when(userService.getUserReference(AUTH_TOKEN))
+                .thenReturn(author);
+        when(taskRepository.saveAndFlush(any()))
+                .thenThrow(constraintViolation("task_author_id_fkey"));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.createTask(taskRequest, AUTH_TOKEN));
+
+        assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND);
+        verify(userService, never()).findUserById(any());
+        verify(taskMapper, never()).map(any());
+    }
+
+    @Test
+    public void createTask_shouldRethrowViolation_whenItIsNotCausedByMissingAuthor() {
+        TaskCreateEditRequest taskRequest = new TaskCreateEditRequest(TASK_TITLE, TASK_DESCRIPTION, null);
+        User author = User.builder().userId(TASK_AUTHOR_ID).email(TASK_AUTHOR_EMAIL).build();
+        DataIntegrityViolationException violation = constraintViolation("task_title_check");
+
+        when(userService.getUserReference(AUTH_TOKEN))
+                .thenReturn(author);
+        when(taskRepository.saveAndFlush(any()))
+                .thenThrow(violation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> taskService.createTask(taskRequest, AUTH_TOKEN));
+
+        assertAll(
+                () -> assertThat(exception).isSameAs(violation),
+                () -> verifyNoInteractions(taskStatsService)
+        );
+    }
+
+    @Test
+    public void createTasks_shouldReferenceAuthorOnceAndSaveAllTasks() {
+        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
+        List<TaskCreateEditRequest> taskRequests = List.of(
+                new TaskCreateEditRequest("First", null, null),
+                new TaskCreateEditRequest("Second", TASK_DESCRIPTION, Priority.HIGH.name())
+        );
+        List<Task> tasks = List.of(
+                Task.builder().title("First").author(author).build(),
+                Task.builder().title("Second").description(TASK_DESCRIPTION).priority(Priority.HIGH).author(author).build()
+        );
+        UserResponse authorResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
+        TaskResponse firstResponse = new TaskResponse(1L, "First", null, DEFAULT_TASK_STATUS, Priority.MEDIUM,
+                authorResponse, null, 0L);
+        TaskResponse secondResponse = new TaskResponse(2L, "Second", TASK_DESCRIPTION, DEFAULT_TASK_STATUS, Priority.HIGH,
+                authorResponse, null, 0L);
+
+        when(userService.getUserReference(AUTH_TOKEN))
+                .thenReturn(author);
+        when(taskRepository.saveAll(tasks))
+                .thenReturn(tasks);
+        when(taskMapper.map(tasks.get(0)))
+                .thenReturn(firstResponse);
+        when(taskMapper.map(tasks.get(1)))
+                .thenReturn(secondResponse);
+
+        List<TaskResponse> actualResponse = taskService.createTasks(taskRequests, AUTH_TOKEN);
+
+        assertAll("Assert created tasks",
+                () -> assertThat(actualResponse).containsExactly(firstResponse, secondResponse),
+                () -> verify(userService, times(1)).getUserReference(AUTH_TOKEN),
+                () -> verify(userService, never()).findUserById(any()),
+                () -> verify(taskRepository, times(1)).flush(),
+                () -> verify(taskRepository, never()).save(any())
+        );
+    }
+
+    @Test
+    public void copyTasks_shouldRethrowViolation_whenItIsNotCausedByMissingAuthor() {
+        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("invalid byte sequence");
+
+        when(userService.getUserReference(AUTH_TOKEN))
+                .thenReturn(author);
+        when(taskRepository.copyTasks(anyList()))
+                .thenThrow(violation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> taskService.copyTasks(List.of(new TaskCreateEditRequest(TASK_TITLE, null, null)), AUTH_TOKEN));
+
+        assertAll(
+                () -> assertThat(exception).isSameAs(violation),
+                () -> verifyNoInteractions(taskStatsService, outboxService)
+        );
     }
 
     @Test
     public void editTask_shouldReturnCorrectTaskResponse() {
-        Priority oldPriority = Priority.LOW;
         Priority newPriority = Priority.HIGH;
         TaskCreateEditRequest newTaskRequest = new TaskCreateEditRequest(TASK_TITLE, TASK_DESCRIPTION, newPriority.name());
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
         UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title("Old title")
-                .description("Old description")
-                .priority(oldPriority)
-                .author(author)
-                .build();
         TaskResponse expectedResponse = new TaskResponse(
-                task.getTaskId(),
+                TASK_ID,
                 newTaskRequest.title(),
                 newTaskRequest.description(),
                 DEFAULT_TASK_STATUS,
                 newPriority,
                 authorUserResponse,
-                null
+                null,
+                1L
         );
 
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(task));
-        when(taskRepository.save(task))
-                .thenReturn(task);
-        when(taskMapper.map(task))
-                .thenReturn(expectedResponse);
+        when(taskRepository.updateTask(TASK_ID, TASK_AUTHOR_ID, TASK_TITLE, TASK_DESCRIPTION, newPriority))
+                .thenReturn(Optional.of(expectedResponse));
 
         TaskResponse actualResponse = taskService.editTask(newTaskRequest, TASK_ID, TASK_AUTHOR_ID);
 
@@ -136,6 +268,9 @@ public class TaskServiceTest {
                 () -> assertThat(actualResponse.status()).isEqualTo(DEFAULT_TASK_STATUS),
                 () -> assertThat(actualResponse.executor()).isNull()
         );
+        verify(taskCache).evict(TASK_ID);
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).existsActiveById(any());
     }
 
     @Test
@@ -143,12 +278,15 @@ public class TaskServiceTest {
         Priority priority = Priority.HIGH;
         TaskCreateEditRequest request = new TaskCreateEditRequest(TASK_TITLE, TASK_DESCRIPTION, priority.name());
 
-        when(taskRepository.findById(TASK_ID))
+        when(taskRepository.updateTask(TASK_ID, TASK_AUTHOR_ID, TASK_TITLE, TASK_DESCRIPTION, priority))
                 .thenReturn(Optional.empty());
+        when(taskRepository.existsActiveById(TASK_ID))
+                .thenReturn(false);
 
-        assertThrows(ResponseStatusException.class, () -> taskService.editTask(request, TASK_ID, TASK_AUTHOR_ID));
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.editTask(request, TASK_ID, TASK_AUTHOR_ID));
 
-        verify(taskRepository, times(1)).findById(TASK_ID);
+        assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND);
         verify(taskRepository, never()).save(any());
         verify(taskMapper, never()).map(any());
     }
@@ -156,62 +294,41 @@ public class TaskServiceTest {
     @Test
     public void editTask_shouldThrowException_whenUserIsNotAuthor() {
         Long requestUserId = 2L;
-        Priority oldPriority = Priority.LOW;
         Priority newPriority = Priority.HIGH;
         TaskCreateEditRequest request = new TaskCreateEditRequest(TASK_TITLE, TASK_DESCRIPTION, newPriority.name());
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title("Old title")
-                .description("Old description")
-                .priority(oldPriority)
-                .author(author)
-                .build();
 
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(task));
+        when(taskRepository.updateTask(TASK_ID, requestUserId, TASK_TITLE, TASK_DESCRIPTION, newPriority))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsActiveById(TASK_ID))
+                .thenReturn(true);
 
-        assertThrows(ResponseStatusException.class, () -> taskService.editTask(request, TASK_ID, requestUserId));
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.editTask(request, TASK_ID, requestUserId));
 
-        verify(taskRepository, times(1)).findById(TASK_ID);
+        assertThat(exception.getStatusCode()).isEqualTo(FORBIDDEN);
         verify(taskRepository, never()).save(any());
         verify(taskMapper, never()).map(any());
     }
 
     @Test
     public void editTaskStatus_shouldReturnCorrectTaskResponse_whenEditedByAuthor() {
-        Status oldStatus = Status.PENDING;
         Status newStatus = Status.IN_PROGRESS;
         TaskStatusEditRequest statusEditRequest = new TaskStatusEditRequest(newStatus.name());
 
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
         UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title(TASK_TITLE)
-                .description(TASK_DESCRIPTION)
-                .status(oldStatus)
-                .priority(Priority.MEDIUM)
-                .author(author)
-                .executor(null)
-                .build();
-
         TaskResponse expectedResponse = new TaskResponse(
-                task.getTaskId(),
-                task.getTitle(),
-                task.getDescription(),
+                TASK_ID,
+                TASK_TITLE,
+                TASK_DESCRIPTION,
                 newStatus,
-                task.getPriority(),
+                Priority.MEDIUM,
                 authorUserResponse,
-                null
+                null,
+                1L
         );
 
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(task));
-        when(taskRepository.save(task))
-                .thenReturn(task);
-        when(taskMapper.map(task))
-                .thenReturn(expectedResponse);
+        when(taskRepository.updateTaskStatus(TASK_ID, TASK_AUTHOR_ID, newStatus))
+                .thenReturn(Optional.of(expectedResponse));
 
         TaskResponse actualResponse = taskService.editTaskStatus(statusEditRequest, TASK_ID, TASK_AUTHOR_ID);
 
@@ -225,35 +342,28 @@ public class TaskServiceTest {
                 () -> assertThat(actualResponse.status()).isEqualTo(expectedResponse.status()),
                 () -> assertThat(actualResponse.executor()).isNull()
         );
+        verify(taskCache).evict(TASK_ID);
+        InOrder statsOrder = inOrder(taskStatsService, taskRepository);
+        statsOrder.verify(taskStatsService).subtractTasks(List.of(TASK_ID));
+        statsOrder.verify(taskRepository).updateTaskStatus(TASK_ID, TASK_AUTHOR_ID, newStatus);
+        statsOrder.verify(taskStatsService).addTasks(List.of(TASK_ID));
     }
 
     @Test
     public void editTaskStatus_shouldThrowException_whenUserHasNoPermission() {
         Long requestUserId = 2L;
-        Long executorUserId = 3L;
-        Status oldStatus = Status.IN_PROGRESS;
         Status newStatus = Status.COMPLETED;
         TaskStatusEditRequest statusEditRequest = new TaskStatusEditRequest(newStatus.name());
 
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
-        User executor = new User(executorUserId, "executor@gmail.com", "1234567");
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title(TASK_TITLE)
-                .description(TASK_DESCRIPTION)
-                .status(oldStatus)
-                .priority(Priority.MEDIUM)
-                .author(author)
-                .executor(executor)
-                .build();
-
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(task));
+        when(taskRepository.updateTaskStatus(TASK_ID, requestUserId, newStatus))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsActiveById(TASK_ID))
+                .thenReturn(true);
 
-        assertThrows(ResponseStatusException.class,
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> taskService.editTaskStatus(statusEditRequest, TASK_ID, requestUserId));
 
-        verify(taskRepository, times(1)).findById(TASK_ID);
+        assertThat(exception.getStatusCode()).isEqualTo(FORBIDDEN);
         verify(taskRepository, never()).save(any());
         verify(taskMapper, never()).map(any());
     }
@@ -262,40 +372,24 @@ public class TaskServiceTest {
     public void editTaskStatus_shouldReturnCorrectTaskResponse_whenEditedByExecutor() {
         Long executorId = 3L;
         String executorEmail = "executor@gmail.com";
-        Status oldStatus = Status.IN_PROGRESS;
         Status newStatus = Status.COMPLETED;
         TaskStatusEditRequest statusEditRequest = new TaskStatusEditRequest(newStatus.name());
 
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
         UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
-        User executor = new User(executorId, executorEmail, "1234567");
         UserResponse executorUserResponse = new UserResponse(executorId, executorEmail);
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title(TASK_TITLE)
-                .description(TASK_DESCRIPTION)
-                .status(oldStatus)
-                .priority(Priority.MEDIUM)
-                .author(author)
-                .executor(executor)
-                .build();
-
         TaskResponse expectedResponse = new TaskResponse(
-                task.getTaskId(),
-                task.getTitle(),
-                task.getDescription(),
+                TASK_ID,
+                TASK_TITLE,
+                TASK_DESCRIPTION,
                 newStatus,
-                task.getPriority(),
+                Priority.MEDIUM,
                 authorUserResponse,
-                executorUserResponse
+                executorUserResponse,
+                1L
         );
 
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(task));
-        when(taskRepository.save(task))
-                .thenReturn(task);
-        when(taskMapper.map(task))
-                .thenReturn(expectedResponse);
+        when(taskRepository.updateTaskStatus(TASK_ID, executorId, newStatus))
+                .thenReturn(Optional.of(expectedResponse));
 
         TaskResponse actualResponse = taskService.editTaskStatus(statusEditRequest, TASK_ID, executorId);
 
@@ -313,58 +407,113 @@ public class TaskServiceTest {
 
     @Test
     public void editTaskStatus_shouldThrowException_whenTaskNotFound() {
-        String newStatus = Status.COMPLETED.name();
-        TaskStatusEditRequest statusEditRequest = new TaskStatusEditRequest(newStatus);
+        Status newStatus = Status.COMPLETED;
+        TaskStatusEditRequest statusEditRequest = new TaskStatusEditRequest(newStatus.name());
 
-        when(taskRepository.findById(TASK_ID))
+        when(taskRepository.updateTaskStatus(TASK_ID, TASK_AUTHOR_ID, newStatus))
                 .thenReturn(Optional.empty());
+        when(taskRepository.existsActiveById(TASK_ID))
+                .thenReturn(false);
 
-        assertThrows(ResponseStatusException.class,
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> taskService.editTaskStatus(statusEditRequest, TASK_ID, TASK_AUTHOR_ID));
 
-        verify(taskRepository, times(1)).findById(TASK_ID);
+        assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND);
         verify(taskRepository, never()).save(any());
         verify(taskMapper, never()).map(any());
     }
 
+    @Test
+    public void editTasksStatus_shouldReportOutcomePerTaskId() {
+        TaskBulkStatusEditRequest statusEditRequest = new TaskBulkStatusEditRequest(
+                List.of(1L, 2L, 3L), null, Status.COMPLETED.name());
+
+        when(taskRepository.findTaskIdsForUpdate(any(), eq(3)))
+                .thenReturn(List.of(1L));
+        when(taskRepository.updateStatus(List.of(1L), Status.COMPLETED.name(), TASK_AUTHOR_ID))
+                .thenReturn(List.of(1L));
+        when(taskRepository.findExistingTaskIds(Set.of(2L, 3L)))
+                .thenReturn(List.of(2L));
+
+        TaskBulkStatusEditResponse actualResponse = taskService.editTasksStatus(statusEditRequest, TASK_AUTHOR_ID);
+
+        assertAll("Assert bulk status response",
+                () -> assertThat(actualResponse.updated()).containsExactly(1L),
+                () -> assertThat(actualResponse.forbidden()).containsExactly(2L),
+                () -> assertThat(actualResponse.notFound()).containsExactly(3L),
+                () -> assertThat(actualResponse.hasMore()).isFalse(),
+                () -> verify(taskStatsService, times(1)).subtractTasks(List.of(1L)),
+                () -> verify(taskCache, times(1)).evict(1L),
+                () -> verify(taskRepository, never()).findById(any())
+        );
+    }
+
+    @Test
+    public void editTasksStatus_shouldUpdateTasksMatchingFilter() {
+        TaskFilter filter = new TaskFilter(null, null, Status.IN_PROGRESS.name(), null, null, null);
+        TaskBulkStatusEditRequest statusEditRequest = new TaskBulkStatusEditRequest(
+                null, filter, Status.COMPLETED.name());
+
+        when(taskRepository.findTaskIdsForUpdate(any(), eq(1001)))
+                .thenReturn(List.of(4L, 5L));
+        when(taskRepository.updateStatus(List.of(4L, 5L), Status.COMPLETED.name(), TASK_AUTHOR_ID))
+                .thenReturn(List.of(4L, 5L));
+
+        TaskBulkStatusEditResponse actualResponse = taskService.editTasksStatus(statusEditRequest, TASK_AUTHOR_ID);
+
+        assertAll("Assert bulk status response",
+                () -> assertThat(actualResponse.updated()).containsExactly(4L, 5L),
+                () -> assertThat(actualResponse.forbidden()).isEmpty(),
+                () -> assertThat(actualResponse.notFound()).isEmpty(),
+                () -> assertThat(actualResponse.hasMore()).isFalse(),
+                () -> verify(taskCache, times(1)).evict(4L),
+                () -> verify(taskCache, times(1)).evict(5L)
+        );
+    }
+
+    @Test
+    public void editTasksStatus_shouldUpdateAtMostOneThousandTasksMatchingFilter() {
+        TaskFilter filter = new TaskFilter(TASK_AUTHOR_ID, null, null, null, null, null);
+        TaskBulkStatusEditRequest statusEditRequest = new TaskBulkStatusEditRequest(
+                null, filter, Status.COMPLETED.name());
+        List<Long> matching = LongStream.rangeClosed(1, 1001).boxed().toList();
+        List<Long> firstThousand = matching.subList(0, 1000);
+
+        when(taskRepository.findTaskIdsForUpdate(any(), eq(1001)))
+                .thenReturn(matching);
+        when(taskRepository.updateStatus(firstThousand, Status.COMPLETED.name(), TASK_AUTHOR_ID))
+                .thenReturn(firstThousand);
+
+        TaskBulkStatusEditResponse actualResponse = taskService.editTasksStatus(statusEditRequest, TASK_AUTHOR_ID);
+
+        assertAll("Assert bulk status response",
+                () -> assertThat(actualResponse.updated()).isEqualTo(firstThousand),
+                () -> assertThat(actualResponse.hasMore()).isTrue(),
+                () -> verify(taskCache, never()).evict(1001L)
+        );
+    }
+
     @Test
     public void editTaskExecutor_shouldReturnCorrectTaskResponse() {
         Long executorId = 3L;
         String executorEmail = "executor@gmail.com";
         TaskExecutorEditRequest executorEditRequest = new TaskExecutorEditRequest(executorId);
 
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
         UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
-        User executor = new User(executorId, executorEmail, "1234567");
         UserResponse executorUserResponse = new UserResponse(executorId, executorEmail);
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title(TASK_TITLE)
-                .description(TASK_DESCRIPTION)
-                .status(Status.PENDING)
-                .priority(Priority.MEDIUM)
-                .author(author)
-                .executor(null)
-                .build();
-
         TaskResponse expectedResponse = new TaskResponse(
-                task.getTaskId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                task.getPriority(),
+                TASK_ID,
+                TASK_TITLE,
+                TASK_DESCRIPTION,
+                Status.PENDING,
+                Priority.MEDIUM,
                 authorUserResponse,
-                executorUserResponse
+                executorUserResponse,
+                1L
         );
 
-        when(userService.findUserById(executorId))
-                .thenReturn(executor);
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(task));
-        when(taskRepository.save(task))
-                .thenReturn(task);
-        when(taskMapper.map(task))
-                .thenReturn(expectedResponse);
+        when(taskRepository.updateTaskExecutor(TASK_ID, TASK_AUTHOR_ID, executorId))
+                .thenReturn(Optional.of(expectedResponse));
 
         TaskResponse actualResponse = taskService.editTaskExecutor(executorEditRequest, TASK_ID, TASK_AUTHOR_ID);
 
@@ -385,121 +534,186 @@ public class TaskServiceTest {
         Long executorId = 3L;
         TaskExecutorEditRequest executorEditRequest = new TaskExecutorEditRequest(executorId);
 
-        when(taskRepository.findById(TASK_ID))
+        when(taskRepository.updateTaskExecutor(TASK_ID, TASK_AUTHOR_ID, executorId))
                 .thenReturn(Optional.empty());
+        when(taskRepository.existsActiveById(TASK_ID))
+                .thenReturn(false);
 
-        assertThrows(ResponseStatusException.class,
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> taskService.editTaskExecutor(executorEditRequest, TASK_ID, TASK_AUTHOR_ID));
 
-        verify(taskRepository, times(1)).findById(TASK_ID);
+        assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND);
         verify(taskRepository, never()).save(any());
         verify(taskMapper, never()).map(any());
     }
 
+    @Test
+    public void editTaskExecutor_throwException_whenExecutorNotFound() {
+        Long executorId = 3L;
+        TaskExecutorEditRequest executorEditRequest = new TaskExecutorEditRequest(executorId);
+
+        when(taskRepository.updateTaskExecutor(TASK_ID, TASK_AUTHOR_ID, executorId))
+                .thenThrow(constraintViolation("task_executor_id_fkey"));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.editTaskExecutor(executorEditRequest, TASK_ID, TASK_AUTHOR_ID));
+
+        assertAll("Assert exception",
+                () -> assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND),
+                () -> assertThat(exception.getReason()).isEqualTo("User with id: " + executorId + " not found"),
+                () -> verify(userService, never()).findUserById(any())
+        );
+    }
+
     @Test
     public void editTaskExecutor_throwException_whenUserHasNoPermission() {
         Long requestUserId = 2L;
         Long newExecutorId = 3L;
         TaskExecutorEditRequest executorEditRequest = new TaskExecutorEditRequest(newExecutorId);
 
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title(TASK_TITLE)
-                .description(TASK_DESCRIPTION)
-                .status(Status.PENDING)
-                .priority(Priority.MEDIUM)
-                .author(author)
-                .executor(null)
-                .build();
-
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(task));
+        when(taskRepository.updateTaskExecutor(TASK_ID, requestUserId, newExecutorId))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsActiveById(TASK_ID))
+                .thenReturn(true);
 
-        assertThrows(ResponseStatusException.class,
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
                 () -> taskService.editTaskExecutor(executorEditRequest, TASK_ID, requestUserId));
 
-        verify(taskRepository, times(1)).findById(TASK_ID);
-        verify(userService, never()).findUserById(any());
+        assertThat(exception.getStatusCode()).isEqualTo(FORBIDDEN);
         verify(taskRepository, never()).save(any());
         verify(taskMapper, never()).map(any());
     }
 
     @Test
-    public void getTask_shouldReturnTask() {
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
-        Task expectedTask = Task.builder()
-                .taskId(TASK_ID)
-                .title(TASK_TITLE)
-                .description(TASK_DESCRIPTION)
-                .status(Status.PENDING)
-                .priority(Priority.MEDIUM)
-                .author(author)
-                .executor(null)
-                .build();
+    public void removeTask_shouldMarkTaskDeleted() {
+        TaskResponse deleted = new TaskResponse(TASK_ID, TASK_TITLE, TASK_DESCRIPTION, DEFAULT_TASK_STATUS,
+                Priority.MEDIUM, new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL), null, 1L);
+
+        when(taskRepository.softDeleteTask(eq(TASK_ID), eq(TASK_AUTHOR_ID), any()))
+                .thenReturn(Optional.of(deleted));
+
+        taskService.removeTask(TASK_ID, TASK_AUTHOR_ID);
+
+        verify(taskCache).evict(TASK_ID);
+        verify(taskEventPublisher).publish(TaskEvent.of(TaskEventType.DELETED, deleted));
+        verify(outboxService).append(eq(OutboxEvent.TASK_AGGREGATE), eq(TaskEventType.DELETED.name()),
+                eq(List.of(deleted)), any());
+        verify(taskStatsService).subtractTasks(List.of(TASK_ID));
+        verify(taskStatsService, never()).addTasks(any());
+        verify(taskRepository, never()).delete(any());
+        verify(taskRepository, never()).existsActiveById(any());
+    }
 
-        when(taskRepository.findById(TASK_ID))
-                .thenReturn(Optional.of(expectedTask));
+    @Test
+    public void removeTask_shouldThrowException_whenUserIsNotAuthor() {
+        Long requestUserId = 2L;
+
+        when(taskRepository.softDeleteTask(eq(TASK_ID), eq(requestUserId), any()))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsActiveById(TASK_ID))
+                .thenReturn(true);
 
-        Task actualTask = taskService.getTask(TASK_ID);
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.removeTask(TASK_ID, requestUserId));
 
-        assertAll("Assert task",
-                () -> assertThat(actualTask).isNotNull(),
-                () -> assertThat(actualTask.getTaskId()).isEqualTo(expectedTask.getTaskId()),
-                () -> assertThat(actualTask.getTitle()).isEqualTo(expectedTask.getTitle()),
-                () -> assertThat(actualTask.getDescription()).isEqualTo(expectedTask.getDescription()),
-                () -> assertThat(actualTask.getPriority()).isEqualTo(expectedTask.getPriority()),
-                () -> assertThat(actualTask.getAuthor()).isEqualTo(expectedTask.getAuthor()),
-                () -> assertThat(actualTask.getStatus()).isEqualTo(expectedTask.getStatus()),
-                () -> assertThat(actualTask.getExecutor()).isEqualTo(expectedTask.getExecutor())
+        assertThat(exception.getStatusCode()).isEqualTo(FORBIDDEN);
+    }
+
+    @Test
+    public void getActiveTaskReference_shouldThrowException_whenTaskIsDeleted() {
+        when(taskRepository.lockActiveTaskId(TASK_ID))
+                .thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.getActiveTaskReference(TASK_ID));
+
+        assertAll(
+                () -> assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND),
+                () -> verify(taskRepository, never()).getReferenceById(any())
         );
     }
 
     @Test
-    public void getTask_shouldThrowException_whenTaskNotFound() {
-        when(taskRepository.findById(TASK_ID))
+    public void findTaskById_shouldReturnTaskResponse() {
+        TaskResponse expectedResponse = new TaskResponse(
+                TASK_ID,
+                TASK_TITLE,
+                TASK_DESCRIPTION,
+                DEFAULT_TASK_STATUS,
+                Priority.MEDIUM,
+                new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL),
+                null,
+                0L
+        );
+
+        when(taskCache.get(eq(TASK_ID), any()))
+                .thenAnswer(invocation -> invocation.<Function<Long, TaskResponse>>getArgument(1).apply(TASK_ID));
+        when(taskRepository.findResponseById(TASK_ID))
+                .thenReturn(Optional.of(expectedResponse));
+
+        TaskResponse actualResponse = taskService.findTaskById(TASK_ID);
+
+        assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(taskRepository, never()).findById(any());
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    public void findTaskById_shouldThrowException_whenTaskNotFound() {
+        when(taskCache.get(eq(TASK_ID), any()))
+                .thenAnswer(invocation -> invocation.<Function<Long, TaskResponse>>getArgument(1).apply(TASK_ID));
+        when(taskRepository.findResponseById(TASK_ID))
                 .thenReturn(Optional.empty());
 
-        assertThrows(ResponseStatusException.class, () -> taskService.getTask(TASK_ID));
+        assertThrows(ResponseStatusException.class, () -> taskService.findTaskById(TASK_ID));
+    }
 
-        verify(taskRepository, times(1)).findById(TASK_ID);
-        verify(taskMapper, never()).map(any());
+    @Test
+    public void findTaskVersion_shouldUseCachedTask() {
+        TaskResponse cachedTask = new TaskResponse(
+                TASK_ID, TASK_TITLE, null, DEFAULT_TASK_STATUS, Priority.MEDIUM, null, null, 3L);
+
+        when(taskCache.getIfPresent(TASK_ID))
+                .thenReturn(Optional.of(cachedTask));
+
+        assertThat(taskService.findTaskVersion(TASK_ID)).isEqualTo(3L);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void findTaskVersion_shouldLookUpVersionOnly_whenTaskIsNotCached() {
+        when(taskCache.getIfPresent(TASK_ID))
+                .thenReturn(Optional.empty());
+        when(taskRepository.findVersionByTaskId(TASK_ID))
+                .thenReturn(Optional.of(3L));
+
+        assertThat(taskService.findTaskVersion(TASK_ID)).isEqualTo(3L);
+        verify(taskRepository, never()).findResponseById(any());
     }
 
     @Test
     public void testGetAllTasks() {
         Pageable pageable = Pageable.ofSize(10);
-        Predicate predicate = Expressions.asBoolean(true).isTrue();
+        Predicate predicate = task.deletedAt.isNull();
 
-        User author = new User(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL, TASK_AUTHOR_PASSWORD);
         UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
-        Task task = Task.builder()
-                .taskId(TASK_ID)
-                .title(TASK_TITLE)
-                .description(TASK_DESCRIPTION)
-                .status(Status.PENDING)
-                .priority(Priority.MEDIUM)
-                .author(author)
-                .executor(null)
-                .build();
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
         TaskResponse expectedResponse = new TaskResponse(
-                task.getTaskId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                task.getPriority(),
+                TASK_ID,
+                TASK_TITLE,
+                TASK_DESCRIPTION,
+                Status.PENDING,
+                Priority.MEDIUM,
                 authorUserResponse,
-                null
+                null,
+                0L
         );
+        Page<TaskResponse> taskPage = new PageImpl<>(List.of(expectedResponse));
 
-        when(taskRepository.findAll(predicate, pageable))
+        when(taskRepository.findAllResponses(predicate, pageable))
                 .thenReturn(taskPage);
-        when(taskMapper.map(task))
-                .thenReturn(expectedResponse);
 
         Page<TaskResponse> actualPage = taskService.getAllTasks(
-                new TaskFilter(null, null, null, null),
+                new TaskFilter(null, null, null, null, null, null),
                 pageable
         );
 
@@ -515,5 +729,249 @@ public class TaskServiceTest {
                 () -> assertThat(actualPage.getContent().get(0).status()).isEqualTo(expectedResponse.status()),
                 () -> assertThat(actualPage.getContent().get(0).executor()).isNull()
         );
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    public void getAllTasks_shouldOrderByRank_whenSearchQueryIsPassedWithoutSort() {
+        Pageable pageable = Pageable.ofSize(10);
+        TaskFilter filter = new TaskFilter(null, null, null, null, "release notes", null);
+        Page<TaskResponse> taskPage = new PageImpl<>(List.of());
+
+        when(taskRepository.findAllResponsesByRank(any(Predicate.class), eq("release notes"), eq(pageable)))
+                .thenReturn(taskPage);
+
+        Page<TaskResponse> actualPage = taskService.getAllTasks(filter, pageable);
+
+        assertThat(actualPage).isSameAs(taskPage);
+        verify(taskRepository, never()).findAllResponses(any(Predicate.class), any(Pageable.class));
+    }
+
+    @Test
+    public void getAllTasksSlice_shouldNotCountTasks() {
+        Pageable pageable = Pageable.ofSize(1);
+        TaskResponse task = new TaskResponse(
+                TASK_ID, TASK_TITLE, null, DEFAULT_TASK_STATUS, Priority.MEDIUM, null, null, 0L);
+        Slice<TaskResponse> expectedSlice = new SliceImpl<>(List.of(task), pageable, true);
+
+        when(taskRepository.findSliceOfResponses(any(Predicate.class), eq(pageable)))
+                .thenReturn(expectedSlice);
+
+        Slice<TaskResponse> actualSlice = taskService.getAllTasksSlice(
+                new TaskFilter(null, null, null, null, null, null),
+                pageable
+        );
+
+        assertAll("Assert actualSlice",
+                () -> assertThat(actualSlice.getContent()).containsExactly(task),
+                () -> assertThat(actualSlice.hasNext()).isTrue()
+        );
+        verify(taskRepository, never()).findAllResponses(any(Predicate.class), any(Pageable.class));
+    }
+
+    @Test
+    public void getAllTasksAfterCursor_shouldReturnNextCursor_whenMoreTasksExist() {
+        Pageable pageable = Pageable.ofSize(1);
+        UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
+        TaskResponse firstTask = new TaskResponse(
+                TASK_ID, TASK_TITLE, null, DEFAULT_TASK_STATUS, Priority.MEDIUM, authorUserResponse, null, 0L);
+        TaskResponse secondTask = new TaskResponse(
+                TASK_ID + 1, TASK_TITLE, null, DEFAULT_TASK_STATUS, Priority.MEDIUM, authorUserResponse, null, 0L);
+
+        when(taskRepository.findAllResponses(any(Predicate.class), any(Sort.class), eq(2)))
+                .thenReturn(List.of(firstTask, secondTask));
+
+        CursorResponse<TaskResponse> actualResponse = taskService.getAllTasks(
+                new TaskFilter(null, null, null, null, null, null),
+                "",
+                pageable
+        );
+
+        assertAll("Assert cursorResponse",
+                () -> assertThat(actualResponse.content()).containsExactly(firstTask),
+                () -> assertThat(actualResponse.metadata().size()).isEqualTo(1),
+                () -> assertThat(Cursor.decode(actualResponse.metadata().nextCursor()))
+                        .isEqualTo(new Cursor("taskId", String.valueOf(TASK_ID), TASK_ID))
+        );
+        verify(taskRepository, never()).findAllResponses(any(Predicate.class), any(Pageable.class));
+    }
+
+    @Test
+    public void getAllTasksAfterCursor_shouldBoundKeyBeforeComparingTaskIds() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Order.desc("title")));
+        String after = new Cursor("title", TASK_TITLE, TASK_ID).encode();
+        Predicate expectedPredicate = task.deletedAt.isNull()
+                .and(task.title.loe(TASK_TITLE).and(task.title.lt(TASK_TITLE).or(task.taskId.lt(TASK_ID))));
+
+        when(taskRepository.findAllResponses(eq(expectedPredicate), any(Sort.class), eq(2)))
+                .thenReturn(List.of());
+
+        CursorResponse<TaskResponse> actualResponse = taskService.getAllTasks(
+                new TaskFilter(null, null, null, null, null, null), after, pageable);
+
+        assertThat(actualResponse.content()).isEmpty();
+    }
+
+    @Test
+    public void getAllTasksAfterCursor_shouldReturnNoNextCursor_whenLastPage() {
+        Pageable pageable = Pageable.ofSize(10);
+        TaskResponse task = new TaskResponse(
+                TASK_ID, TASK_TITLE, null, DEFAULT_TASK_STATUS, Priority.MEDIUM, null, null, 0L);
+
+        when(taskRepository.findAllResponses(any(Predicate.class), any(Sort.class), eq(11)))
+                .thenReturn(List.of(task));
+
+        CursorResponse<TaskResponse> actualResponse = taskService.getAllTasks(
+                new TaskFilter(null, null, null, null, null, null),
+                new Cursor("taskId", "5", 5L).encode(),
+                pageable
+        );
+
+        assertThat(actualResponse.metadata().nextCursor()).isNull();
+    }
+
+    @Test
+    public void getAllTasksAfterCursor_shouldThrowException_whenCursorIssuedForAnotherSort() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+        String after = new Cursor("taskId", "5", 5L).encode();
+        TaskFilter filter = new TaskFilter(null, null, null, null, null, null);
+
+        assertThrows(ResponseStatusException.class, () -> taskService.getAllTasks(filter, after, pageable));
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void getAllTasksAfterCursor_shouldThrowException_whenSortIsNotSupported() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+        TaskFilter filter = new TaskFilter(null, null, null, null, null, null);
+
+        assertThrows(ResponseStatusException.class, () -> taskService.getAllTasks(filter, "", pageable));
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void getInbox_shouldContinueAfterCursor_andReturnNextCursor() {
+        UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
+        TaskResponse firstTask = new TaskResponse(
+                TASK_ID, TASK_TITLE, null, Status.IN_PROGRESS, Priority.MEDIUM, authorUserResponse, null, 0L);
+        TaskResponse secondTask = new TaskResponse(
+                TASK_ID - 1, TASK_TITLE, null, Status.IN_PROGRESS, Priority.MEDIUM, authorUserResponse, null, 0L);
+        String after = new Cursor("taskId", "20", 20L).encode();
+
+        when(taskRepository.findInbox(TASK_AUTHOR_ID, Status.IN_PROGRESS, 20L, 2))
+                .thenReturn(List.of(firstTask, secondTask));
+
+        CursorResponse<TaskResponse> actualResponse = taskService.getInbox(
+                TASK_AUTHOR_ID, new TaskInboxFilter(Status.IN_PROGRESS.name()), after, 1);
+
+        assertAll("Assert cursorResponse",
+                () -> assertThat(actualResponse.content()).containsExactly(firstTask),
+                () -> assertThat(Cursor.decode(actualResponse.metadata().nextCursor()).id()).isEqualTo(TASK_ID)
+        );
+    }
+
+    @Test
+    public void syncTasks_shouldReturnDeletedTasksAsTombstones() {
+        UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
+        Instant updatedSince = Instant.now().minus(Duration.ofHours(1));
+        TaskResponse updatedTask = new TaskResponse(
+                TASK_ID, TASK_TITLE, null, Status.IN_PROGRESS, Priority.MEDIUM, authorUserResponse, null, 1L);
+        TaskResponse deletedTask = new TaskResponse(
+                TASK_ID + 1, TASK_TITLE, null, Status.PENDING, Priority.MEDIUM, authorUserResponse, null, 1L);
+        TaskResponse nextTask = new TaskResponse(
+                TASK_ID + 2, TASK_TITLE, null, Status.PENDING, Priority.MEDIUM, authorUserResponse, null, 1L);
+        Instant deletedAt = updatedSince.plusSeconds(20);
+
+        when(taskRepository.findChanges(
+                task.author.userId.eq(TASK_AUTHOR_ID).and(task.updatedAt.goe(updatedSince)), 3))
+                .thenReturn(List.of(
+                        new TaskChange(updatedTask, updatedSince.plusSeconds(10), false),
+                        new TaskChange(deletedTask, deletedAt, true),
+                        new TaskChange(nextTask, updatedSince.plusSeconds(30), false)));
+        when(taskRepository.findFilterExits(any(), eq(3)))
+                .thenReturn(List.of());
+
+        TaskSyncResponse actualResponse = taskService.syncTasks(
+                new TaskFilter(TASK_AUTHOR_ID, null, null, null, null, updatedSince), null, 2);
+
+        Cursor nextCursor = Cursor.decode(actualResponse.metadata().nextCursor());
+        assertAll("Assert syncResponse",
+                () -> assertThat(actualResponse.updated()).containsExactly(updatedTask),
+                () -> assertThat(actualResponse.deleted()).containsExactly(TASK_ID + 1),
+                () -> assertThat(nextCursor.value()).isEqualTo(deletedAt.toString()),
+                () -> assertThat(nextCursor.id()).isEqualTo(TASK_ID + 1),
+                () -> assertThat(actualResponse.metadata().syncedAt()).isBefore(Instant.now())
+        );
+    }
+
+    @Test
+    public void syncTasks_shouldReturnTasksThatLeftFilterAsDeleted() {
+        UserResponse authorUserResponse = new UserResponse(TASK_AUTHOR_ID, TASK_AUTHOR_EMAIL);
+        Instant updatedSince = Instant.now().minus(Duration.ofHours(1));
+        TaskResponse matchingTask = new TaskResponse(
+                TASK_ID, TASK_TITLE, null, Status.PENDING, Priority.MEDIUM, authorUserResponse, null, 2L);
+        TaskResponse laterTask = new TaskResponse(
+                TASK_ID + 2, TASK_TITLE, null, Status.PENDING, Priority.MEDIUM, authorUserResponse, null, 2L);
+        Instant exitedAt = updatedSince.plusSeconds(20);
+
+        when(taskRepository.findChanges(
+                task.status.eq(Status.PENDING).and(task.updatedAt.goe(updatedSince)), 3))
+                .thenReturn(List.of(
+                        new TaskChange(matchingTask, updatedSince.plusSeconds(10), false),
+                        new TaskChange(laterTask, updatedSince.plusSeconds(30), false)));
+        when(taskRepository.findFilterExits(any(), eq(3)))
+                .thenReturn(List.of(TaskChange.exit(TASK_ID + 1, exitedAt)));
+
+        TaskSyncResponse actualResponse = taskService.syncTasks(
+                new TaskFilter(null, null, Status.PENDING.name(), null, null, updatedSince), null, 2);
+
+        Cursor nextCursor = Cursor.decode(actualResponse.metadata().nextCursor());
+        assertAll("Assert syncResponse",
+                () -> assertThat(actualResponse.updated()).containsExactly(matchingTask),
+                () -> assertThat(actualResponse.deleted()).containsExactly(TASK_ID + 1),
+                () -> assertThat(nextCursor.value()).isEqualTo(exitedAt.toString()),
+                () -> assertThat(nextCursor.id()).isEqualTo(TASK_ID + 1)
+        );
+    }
+
+    @Test
+    public void syncTasks_shouldRejectSearchQuery_whenSyncIsIncremental() {
+        TaskFilter filter = new TaskFilter(null, null, null, null, "report", Instant.now().minusSeconds(60));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.syncTasks(filter, null, 10));
+
+        assertAll(
+                () -> assertThat(exception.getStatusCode()).isEqualTo(BAD_REQUEST),
+                () -> verifyNoInteractions(taskRepository)
+        );
+    }
+
+    @Test
+    public void syncTasks_shouldThrowException_whenTombstonesAreNoLongerKept() {
+        Instant updatedSince = Instant.now().minus(taskSyncProperties.getTombstoneRetention()).minusSeconds(60);
+        TaskFilter filter = new TaskFilter(null, null, null, null, null, updatedSince);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> taskService.syncTasks(filter, null, 10));
+
+        assertAll(
+                () -> assertThat(exception.getStatusCode()).isEqualTo(GONE),
+                () -> verifyNoInteractions(taskRepository)
+        );
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", null, constraintName));
+    }
+
+    private static TaskSyncProperties syncProperties() {
+        TaskSyncProperties properties = new TaskSyncProperties();
+        properties.setTombstoneRetention(Duration.ofDays(30));
+        properties.setOverlap(Duration.ofMinutes(1));
+        return properties;
     }
-}
\ No newline at end of file
+}
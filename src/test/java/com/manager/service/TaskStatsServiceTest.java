@@ -0,0 +1,61 @@
+package com.manager.service;
+
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import com.manager.entity.TaskRole;
+import com.manager.entity.UserTaskStats;
+import com.manager.model.response.UserTaskStatsResponse;
+import com.manager.repository.UserTaskStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatsServiceTest {
+    private final static Long USER_ID = 1L;
+
+    @Mock
+    private UserTaskStatsRepository statsRepository;
+    @InjectMocks
+    private TaskStatsService taskStatsService;
+
+    @Test
+    public void getUserStats_shouldSumCountersByRole() {
+        when(statsRepository.findAllByUserId(USER_ID)).thenReturn(List.of(
+                new UserTaskStats(USER_ID, TaskRole.AUTHOR, Status.PENDING, Priority.HIGH, 2),
+                new UserTaskStats(USER_ID, TaskRole.AUTHOR, Status.COMPLETED, Priority.HIGH, 3),
+                new UserTaskStats(USER_ID, TaskRole.EXECUTOR, Status.PENDING, Priority.LOW, 4)
+        ));
+
+        UserTaskStatsResponse stats = taskStatsService.getUserStats(USER_ID);
+
+        assertAll("Assert stats",
+                () -> assertThat(stats.authored().total()).isEqualTo(5),
+                () -> assertThat(stats.authored().byStatus().get(Status.PENDING)).isEqualTo(2),
+                () -> assertThat(stats.authored().byStatus().get(Status.IN_PROGRESS)).isZero(),
+                () -> assertThat(stats.authored().byPriority().get(Priority.HIGH)).isEqualTo(5),
+                () -> assertThat(stats.assigned().total()).isEqualTo(4),
+                () -> assertThat(stats.assigned().byPriority().get(Priority.LOW)).isEqualTo(4)
+        );
+    }
+
+    @Test
+    public void subtractTasks_shouldApplyCountsInChunks() {
+        List<Long> taskIds = LongStream.rangeClosed(1, 1500).boxed().toList();
+
+        taskStatsService.subtractTasks(taskIds);
+
+        verify(statsRepository).applyTaskCounts(taskIds.subList(0, 1000), -1);
+        verify(statsRepository).applyTaskCounts(taskIds.subList(1000, 1500), -1);
+    }
+}
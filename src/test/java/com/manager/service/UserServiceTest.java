@@ -5,13 +5,13 @@ import com.manager.mapper.UserResponseMapper;
 import com.manager.model.request.AuthRequest;
 import com.manager.model.response.UserResponse;
 import com.manager.repository.UserRepository;
+import com.manager.util.PasswordHasher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Optional;
@@ -31,7 +31,7 @@ public class UserServiceTest {
     @Mock
     private UserResponseMapper userMapper;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
     @InjectMocks
     private UserService userService;
 
@@ -50,7 +50,7 @@ public class UserServiceTest {
                 .thenReturn(user);
         when(userMapper.map(user))
                 .thenReturn(expectedResponse);
-        when(passwordEncoder.encode(RAW_PASSWORD))
+        when(passwordHasher.encode(RAW_PASSWORD))
                 .thenReturn(ENCODED_PASSWORD);
 
         UserResponse actualResponse = userService.createUser(authRequest);
@@ -73,7 +73,7 @@ public class UserServiceTest {
         verify(userRepository, times(1)).existsByEmail(USER_EMAIL);
         verify(userRepository, never()).save(any());
         verify(userMapper, never()).map(any());
-        verify(passwordEncoder, never()).encode(any());
+        verify(passwordHasher, never()).encode(any());
     }
 
     @Test
@@ -0,0 +1,76 @@
+package com.manager.util;
+
+import com.manager.config.SecurityProperties;
+import com.manager.model.AuthToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtRequestFilterTest {
+    private final static AuthToken AUTH_TOKEN = new AuthToken(1L, "user@mail.com");
+
+    private JwtUtil jwtUtil;
+    private JwtRequestFilter jwtRequestFilter;
+
+    @BeforeEach
+    void setUp() {
+        SecurityProperties properties = new SecurityProperties();
+        properties.setSecret("0123456789abcdef0123456789abcdef");
+        properties.setTokenTtl(Duration.ofDays(1));
+        properties.setTokenCacheSize(100);
+        properties.setTokenCacheTtl(Duration.ofMinutes(10));
+        properties.setRejectedTokenCacheTtl(Duration.ofMinutes(1));
+        jwtUtil = spy(new JwtUtil(properties));
+        jwtRequestFilter = new JwtRequestFilter(jwtUtil, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldVerifyValidTokenOnce() throws Exception {
+        String token = jwtUtil.createToken(AUTH_TOKEN);
+
+        filter(token);
+        SecurityContextHolder.clearContext();
+        filter(token);
+
+        assertAll(
+                () -> assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                        .isEqualTo(AUTH_TOKEN),
+                () -> verify(jwtUtil, times(1)).readToken(anyString())
+        );
+    }
+
+    @Test
+    void doFilter_shouldRememberRejectedToken() throws Exception {
+        filter("not.a.token");
+        filter("not.a.token");
+
+        assertAll(
+                () -> assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull(),
+                () -> verify(jwtUtil, times(1)).readToken(anyString())
+        );
+    }
+
+    private void filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
@@ -0,0 +1,64 @@
+package com.manager.util;
+
+import com.manager.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+class PasswordHasherTest {
+    private PasswordEncoder encoder;
+    private SimpleMeterRegistry registry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(0);
+        properties.setStrength(4);
+        encoder = mock(PasswordEncoder.class);
+        registry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(encoder, properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void encode_shouldRejectWhenExecutorIsSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(encoder.encode("slow")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> passwordHasher.encode("slow"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> passwordHasher.encode("fast"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(SERVICE_UNAVAILABLE);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(registry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.manager.util;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+class RequestAdmissionFilterTest {
+    private final RequestAdmissionFilter filter = new RequestAdmissionFilter(1, Duration.ofMillis(50));
+
+    @Test
+    void doFilter_shouldRejectRequest_whenLimitIsReached() throws Exception {
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (req, res) -> {
+            admitted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<MockHttpServletResponse> running = CompletableFuture.supplyAsync(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                filter.doFilter(new MockHttpServletRequest(), response, blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return response;
+        });
+        assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), rejected, new MockFilterChain());
+        release.countDown();
+        MockHttpServletResponse finished = running.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse afterRelease = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), afterRelease, new MockFilterChain());
+
+        assertAll(
+                () -> assertThat(rejected.getStatus()).isEqualTo(SERVICE_UNAVAILABLE.value()),
+                () -> assertThat(finished.getStatus()).isEqualTo(OK.value()),
+                () -> assertThat(afterRelease.getStatus()).isEqualTo(OK.value())
+        );
+    }
+}
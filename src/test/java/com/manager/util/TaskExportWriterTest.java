@@ -0,0 +1,46 @@
+package com.manager.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manager.entity.Priority;
+import com.manager.entity.Status;
+import com.manager.model.ExportFormat;
+import com.manager.model.response.TaskResponse;
+import com.manager.model.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskExportWriterTest {
+    private static final TaskResponse TASK = new TaskResponse(1L, "Fix \"login\", again", null, Status.PENDING,
+            Priority.HIGH, new UserResponse(2L, "author@gmail.com"), null, 3L);
+
+    private final TaskExportWriter writer = new TaskExportWriter(new ObjectMapper());
+
+    @Test
+    void write_shouldWriteCsvWithHeaderAndQuotedValues() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(Stream.of(TASK), ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                taskId,title,description,status,priority,authorId,authorEmail,executorId,executorEmail,version
+                1,"Fix ""login"", again",,PENDING,HIGH,2,author@gmail.com,,,3
+                """);
+    }
+
+    @Test
+    void write_shouldWriteOneJsonObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(Stream.of(TASK, TASK), ExportFormat.NDJSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"taskId\":1,").endsWith("\"version\":3}"));
+    }
+}
@@ -0,0 +1,41 @@
+DROP TABLE IF EXISTS comment;
+DROP TABLE IF EXISTS task;
+DROP TABLE IF EXISTS users;
+
+CREATE TABLE users
+(
+    user_id  BIGINT PRIMARY KEY,
+    email    VARCHAR(64)  NOT NULL UNIQUE,
+    password VARCHAR(128) NOT NULL
+);
+
+CREATE TABLE task
+(
+    task_id    BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TABLE comment
+(
+    comment_id BIGINT PRIMARY KEY,
+    text       VARCHAR(255)                      NOT NULL,
+    task_id    BIGINT REFERENCES task (task_id)  NOT NULL,
+    author_id  BIGINT REFERENCES users (user_id) NOT NULL
+);
+
+INSERT INTO users (user_id, email, password)
+VALUES (1, 'first@gmail.com', 'password'),
+       (2, 'second@gmail.com', 'password'),
+       (3, 'third@gmail.com', 'password');
+
+INSERT INTO task (task_id, deleted_at)
+VALUES (1, NULL),
+       (2, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00');
+
+INSERT INTO comment (comment_id, text, task_id, author_id)
+VALUES (1, 'first comment', 1, 1),
+       (2, 'second comment', 1, 2),
+       (3, 'third comment', 1, 3),
+       (4, 'fourth comment', 1, 1),
+       (5, 'fifth comment', 1, 2),
+       (6, 'comment of deleted task', 2, 1);